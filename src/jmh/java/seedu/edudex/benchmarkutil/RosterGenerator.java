@@ -0,0 +1,78 @@
+package seedu.edudex.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.person.Address;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Name;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.Phone;
+import seedu.edudex.model.person.School;
+import seedu.edudex.model.person.Time;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Generates deterministic rosters of distinct students for use in benchmarks.
+ */
+public class RosterGenerator {
+
+    public static final String[] SUBJECTS = {"Math", "Science", "English", "Chinese", "Physics", "Chemistry"};
+
+    private static final String[] GIVEN_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy", "Bob", "Carl", "Daniel", "Elle", "Fiona"
+    };
+
+    /**
+     * Returns the name of the {@code index}-th generated student.
+     * Every student has a distinct name made up of a common given name and a unique surname.
+     */
+    public static String nameOf(int index) {
+        StringBuilder surname = new StringBuilder();
+        int remaining = index;
+        do {
+            surname.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        surname.setCharAt(0, Character.toUpperCase(surname.charAt(0)));
+        return GIVEN_NAMES[index % GIVEN_NAMES.length] + " " + surname;
+    }
+
+    /**
+     * Returns {@code count} students with distinct names, each having a single one-hour lesson.
+     */
+    public static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code EduDex} containing every subject in {@link #SUBJECTS} and {@code count} generated students.
+     */
+    public static EduDex generateEduDex(int count) {
+        EduDex eduDex = new EduDex();
+        for (String subject : SUBJECTS) {
+            eduDex.addSubject(Subject.of(subject));
+        }
+        for (Person person : generatePersons(count)) {
+            eduDex.addPerson(person);
+        }
+        return eduDex;
+    }
+
+    private static Person generatePerson(int index) {
+        int startHour = 8 + index % 12;
+        Lesson lesson = new Lesson(Subject.of(SUBJECTS[index % SUBJECTS.length]),
+                Day.of(Day.VALID_DAYS[index % Day.VALID_DAYS.length]),
+                new Time(String.format("%02d:00", startHour)), new Time(String.format("%02d:00", startHour + 1)));
+        return new Person(new Name(nameOf(index)), new Phone(String.valueOf(80000000 + index)),
+                new School("Benchmark Primary School"), new Address("Blk " + index + " Benchmark Street"),
+                new HashSet<>(), List.of(lesson));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.edudex.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.model.person.Address;
+import seedu.edudex.model.person.Name;
+import seedu.edudex.model.person.Phone;
+import seedu.edudex.model.person.School;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.model.tag.Tag;
+
+/**
+ * Compares validating 100,000 values with {@code String#matches}, which compiles the validation regex on every
+ * call, against the validators of the value objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+    private static final int VALUE_COUNT = 100_000;
+
+    @Param({"NAME", "PHONE", "SCHOOL", "ADDRESS", "TAG", "SUBJECT"})
+    private String field;
+
+    private String[] values;
+    private String regex;
+    private Predicate<String> validator;
+
+    @Setup
+    public void setUp() {
+        values = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = valueOf(i);
+        }
+    }
+
+    private String valueOf(int index) {
+        switch (field) {
+        case "NAME":
+            regex = Name.VALIDATION_REGEX;
+            validator = Name::isValidName;
+            return RosterGenerator.nameOf(index);
+        case "PHONE":
+            regex = "\\d{" + Phone.MIN_LENGTH + ",}";
+            validator = Phone::isValidPhone;
+            return String.valueOf(80000000 + index);
+        case "SCHOOL":
+            regex = School.VALIDATION_REGEX;
+            validator = School::isValidSchool;
+            return "Jurong Primary School " + index;
+        case "ADDRESS":
+            regex = Address.VALIDATION_REGEX;
+            validator = Address::isValidAddress;
+            return "Blk " + index + ", Jurong West Ave 6, #08-111";
+        case "TAG":
+            regex = Tag.VALIDATION_REGEX;
+            validator = Tag::isValidTagName;
+            return "tag" + index;
+        case "SUBJECT":
+            regex = Subject.VALIDATION_REGEX;
+            validator = Subject::isValidSubjectName;
+            return RosterGenerator.SUBJECTS[index % RosterGenerator.SUBJECTS.length];
+        default:
+            throw new IllegalStateException("Unknown field: " + field);
+        }
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        int validCount = 0;
+        for (String value : values) {
+            if (value.matches(regex)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int validator() {
+        int validCount = 0;
+        for (String value : values) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
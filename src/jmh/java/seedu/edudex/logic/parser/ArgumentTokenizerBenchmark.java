@@ -0,0 +1,139 @@
+package seedu.edudex.logic.parser;
+
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single-pass {@link ArgumentTokenizer} against the previous tokenizer, which searched the arguments
+ * string once for every prefix, on long {@code add} and {@code addlesson} arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_SCHOOL, PREFIX_ADDRESS, PREFIX_TAG
+    };
+    private static final Prefix[] ADD_LESSON_PREFIXES = {PREFIX_SUBJECT, PREFIX_DAY, PREFIX_START, PREFIX_END};
+
+    @Param({"ADD", "ADD_LESSON"})
+    private String command;
+
+    @Param({"1", "50"})
+    private int repeatCount;
+
+    private String argsString;
+    private Prefix[] prefixes;
+
+    @Setup
+    public void setUp() {
+        StringBuilder args = new StringBuilder();
+        if (command.equals("ADD")) {
+            prefixes = ADD_PREFIXES;
+            args.append(" n/Alexander Yeoh Wei Ming p/87438807 sch/Raffles Girls' Primary School")
+                    .append(" a/Blk 30 Geylang Street 29, #06-40, Singapore 389211, near the MRT station");
+            for (int i = 0; i < repeatCount; i++) {
+                args.append(" t/tag").append(i);
+            }
+        } else {
+            prefixes = ADD_LESSON_PREFIXES;
+            args.append(" 1");
+            for (int i = 0; i < repeatCount; i++) {
+                args.append(" sub/Additional Mathematics d/Wednesday start/14:00 end/16:30");
+            }
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap singlePass() {
+        return ArgumentTokenizer.tokenize(argsString, prefixes);
+    }
+
+    @Benchmark
+    public ArgumentMultimap searchPerPrefix() {
+        return SearchPerPrefixTokenizer.tokenize(argsString, prefixes);
+    }
+
+    /**
+     * The previous tokenizer, which finds the occurrences of each prefix with a separate search.
+     */
+    private static class SearchPerPrefixTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+            return extractArguments(argsString, positions);
+        }
+
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+            int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (prefixPosition != -1) {
+                positions.add(new PrefixPosition(prefix, prefixPosition));
+                prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+            }
+            return positions;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+
+        private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+            prefixPositions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+            prefixPositions.add(0, new PrefixPosition(new Prefix(""), 0));
+            prefixPositions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < prefixPositions.size() - 1; i++) {
+                PrefixPosition current = prefixPositions.get(i);
+                int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+                String value = argsString.substring(valueStartPos, prefixPositions.get(i + 1).startPosition);
+                argMultimap.put(current.prefix, value.trim());
+            }
+            return argMultimap;
+        }
+
+        private static class PrefixPosition {
+            private final int startPosition;
+            private final Prefix prefix;
+
+            PrefixPosition(Prefix prefix, int startPosition) {
+                this.prefix = prefix;
+                this.startPosition = startPosition;
+            }
+        }
+    }
+}
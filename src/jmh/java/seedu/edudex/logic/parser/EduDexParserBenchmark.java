@@ -0,0 +1,125 @@
+package seedu.edudex.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.logic.commands.AddCommand;
+import seedu.edudex.logic.commands.AddLessonCommand;
+import seedu.edudex.logic.commands.Command;
+import seedu.edudex.logic.commands.DeleteCommand;
+import seedu.edudex.logic.commands.EditCommand;
+import seedu.edudex.logic.commands.FindCommand;
+import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+
+/**
+ * Compares parsing a script of commands with the registry of shared parsers in {@link EduDexParser} against the
+ * previous parser, which split the command word with a regex and created a new parser for every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EduDexParserBenchmark {
+
+    private static final int SCRIPT_LENGTH = 1000;
+
+    private final EduDexParser parser = new EduDexParser();
+    private final List<String> script = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SCRIPT_LENGTH; i++) {
+            String name = RosterGenerator.nameOf(i);
+            String subject = RosterGenerator.SUBJECTS[i % RosterGenerator.SUBJECTS.length];
+            switch (i % 6) {
+            case 0:
+                script.add(AddCommand.COMMAND_WORD + " n/" + name + " p/9" + (1000000 + i)
+                        + " sch/Clementi Secondary School a/Blk " + i + " Clementi Ave 3 t/student");
+                break;
+            case 1:
+                script.add(AddLessonCommand.COMMAND_WORD + " " + (i % 50 + 1) + " sub/" + subject
+                        + " d/Monday start/14:00 end/16:00");
+                break;
+            case 2:
+                script.add(EditCommand.COMMAND_WORD + " " + (i % 50 + 1) + " p/8" + (1000000 + i));
+                break;
+            case 3:
+                script.add(FindCommand.COMMAND_WORD + " " + name);
+                break;
+            case 4:
+                script.add(DeleteCommand.COMMAND_WORD + " " + (i % 50 + 1));
+                break;
+            default:
+                script.add(ListCommand.COMMAND_WORD);
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void registry(Blackhole blackhole) throws ParseException {
+        for (String line : script) {
+            blackhole.consume(parser.parseCommand(line));
+        }
+    }
+
+    @Benchmark
+    public void regexAndNewParsers(Blackhole blackhole) throws ParseException {
+        for (String line : script) {
+            blackhole.consume(RegexParser.parseCommand(line));
+        }
+    }
+
+    /**
+     * The previous parser, for the commands in the script.
+     */
+    private static class RegexParser {
+
+        private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+        static Command parseCommand(String userInput) throws ParseException {
+            final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+            if (!matcher.matches()) {
+                throw new ParseException(userInput);
+            }
+            final String commandWord = matcher.group("commandWord");
+            final String arguments = matcher.group("arguments");
+
+            switch (commandWord) {
+            case AddCommand.COMMAND_WORD:
+                return new AddCommandParser().parse(arguments);
+            case AddLessonCommand.COMMAND_WORD:
+                return new AddLessonCommandParser().parse(arguments);
+            case EditCommand.COMMAND_WORD:
+                return new EditCommandParser().parse(arguments);
+            case FindCommand.COMMAND_WORD:
+                return new FindCommandParser().parse(arguments);
+            case DeleteCommand.COMMAND_WORD:
+                return new DeleteCommandParser().parse(arguments);
+            case ListCommand.COMMAND_WORD:
+                return new ListCommand();
+            default:
+                throw new ParseException(userInput);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.edudex.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+
+/**
+ * Measures how {@link EduDex#resetData(ReadOnlyEduDex)} scales with the number of persons.
+ * This is the path taken on startup, by {@code ClearCommand} and whenever a {@code ModelManager} is constructed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EduDexResetDataBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    private EduDex source;
+
+    @Setup
+    public void setUp() {
+        source = RosterGenerator.generateEduDex(personCount);
+    }
+
+    @Benchmark
+    public EduDex resetData() {
+        EduDex eduDex = new EduDex();
+        eduDex.resetData(source);
+        return eduDex;
+    }
+}
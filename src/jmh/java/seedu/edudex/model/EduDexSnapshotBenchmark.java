@@ -0,0 +1,63 @@
+package seedu.edudex.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.model.person.Person;
+
+/**
+ * Compares taking a {@link EduDex#snapshot()}, which shares the persistent lists of the EduDex, against copying
+ * the EduDex, as was needed before to keep its data unaffected by later changes.
+ * The edit benchmark measures the cost the persistent lists add to each change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EduDexSnapshotBenchmark {
+
+    @Param({"1000", "100000"})
+    private int personCount;
+
+    private EduDex eduDex;
+    private Person person;
+    private Person editedPerson;
+
+    @Setup
+    public void setUp() {
+        eduDex = RosterGenerator.generateEduDex(personCount);
+        person = eduDex.getPersonList().get(personCount / 2);
+        editedPerson = person.withLessons(person.getLessons().subList(0, 0));
+    }
+
+    @Benchmark
+    public ReadOnlyEduDex snapshot() {
+        return eduDex.snapshot();
+    }
+
+    @Benchmark
+    public ReadOnlyEduDex copy() {
+        return new EduDex(eduDex);
+    }
+
+    @Benchmark
+    public EduDex editPerson() {
+        eduDex.setPerson(person, editedPerson);
+        eduDex.setPerson(editedPerson, person);
+        return eduDex;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.edudex.model;
+
+import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
+import seedu.edudex.model.person.SubjectComparator;
+import seedu.edudex.model.person.Time;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Compares showing the students of one subject as views kept up to date by the model against copying every
+ * matching student with only their lessons of the subject, as was done on every find by subject.
+ * The edit benchmarks give a shown student a lesson and take it away again, after which the copies had to be made
+ * again for the shown list to be up to date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SubjectViewBenchmark {
+
+    private static final Subject SUBJECT = Subject.of(RosterGenerator.SUBJECTS[0]);
+
+    @Param({"50000"})
+    private int personCount;
+
+    private ModelManager model;
+    private EduDex eduDex;
+    private final ObservableList<Person> copies = FXCollections.observableArrayList();
+    private Person shownPerson;
+    private Person editedPerson;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(RosterGenerator.generateEduDex(personCount), new UserPrefs());
+        eduDex = new EduDex(model.getEduDex());
+        shownPerson = model.getEduDex().getPersonList().get(0);
+        editedPerson = shownPerson.withAddedLesson(new Lesson(SUBJECT, Day.of("Sunday"),
+                new Time("20:00"), new Time("21:00")));
+        model.updateFilteredPersonListBySubject(SUBJECT);
+    }
+
+    @Benchmark
+    public List<PersonSubjectView> findBySubjectViews() {
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPersonListBySubject(SUBJECT);
+        return model.getDisplayedPersonList();
+    }
+
+    @Benchmark
+    public List<Person> findBySubjectCopies() {
+        copyPersonsWithSubject(eduDex);
+        return copies;
+    }
+
+    @Benchmark
+    public List<PersonSubjectView> editShownPersonViews() {
+        model.setPerson(shownPerson, editedPerson);
+        model.setPerson(editedPerson, shownPerson);
+        return model.getDisplayedPersonList();
+    }
+
+    @Benchmark
+    public List<Person> editShownPersonCopies() {
+        eduDex.setPerson(shownPerson, editedPerson);
+        copyPersonsWithSubject(eduDex);
+        eduDex.setPerson(editedPerson, shownPerson);
+        copyPersonsWithSubject(eduDex);
+        return copies;
+    }
+
+    private void copyPersonsWithSubject(EduDex source) {
+        copies.setAll(source.getPersonsWithSubject(SUBJECT).stream()
+                .sorted(new SubjectComparator())
+                .map(original -> original.withLessons(original.getLessons().stream()
+                        .filter(lesson -> lesson.getSubject().isSameSubject(SUBJECT))
+                        .toList()))
+                .toList());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.edudex.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+
+/**
+ * Compares finding persons by name with {@link NameContainsKeywordsPredicate} over the whole roster against looking
+ * them up in the {@link NamePrefixTrie} maintained by {@link UniquePersonList}.
+ * "Alex" matches one in every twelve generated students, while "Zz" matches about one in every 700.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class NameSearchBenchmark {
+
+    @Param({"100000"})
+    private int personCount;
+
+    @Param({"Alex", "Zz"})
+    private String keyword;
+
+    private UniquePersonList persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        persons.setPersons(RosterGenerator.generatePersons(personCount));
+        predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+
+    @Benchmark
+    public int predicateScan() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int trieLookup() {
+        return persons.findPersonsWithNameWordStartingWith(predicate.getKeywords()).size();
+    }
+}
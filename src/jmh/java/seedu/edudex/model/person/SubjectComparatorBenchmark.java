@@ -0,0 +1,87 @@
+package seedu.edudex.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Compares sorting students with {@link SubjectComparator}, which uses the earliest lesson start kept by each
+ * {@code Person}, against a comparator that finds the earliest lesson of both persons on every comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SubjectComparatorBenchmark {
+
+    private static final Comparator<Person> SCANNING_COMPARATOR =
+            Comparator.comparingLong(SubjectComparatorBenchmark::findEarliestStartNanoOfWeek);
+
+    @Param({"50000"})
+    private int personCount;
+
+    @Param({"1", "6"})
+    private int lessonsPerPerson;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(personCount);
+        for (Person person : RosterGenerator.generatePersons(personCount)) {
+            List<Lesson> lessons = new ArrayList<>(lessonsPerPerson);
+            for (int i = 0; i < lessonsPerPerson; i++) {
+                // spread each student's lessons over the week in an order that is not already sorted
+                int index = (person.hashCode() + i * 5) & Integer.MAX_VALUE;
+                int startHour = 8 + index % 12;
+                lessons.add(new Lesson(Subject.of(RosterGenerator.SUBJECTS[i % RosterGenerator.SUBJECTS.length]),
+                        Day.of(Day.VALID_DAYS[(index / 12) % Day.VALID_DAYS.length]),
+                        new Time(String.format("%02d:00", startHour)),
+                        new Time(String.format("%02d:30", startHour))));
+            }
+            persons.add(new Person(person.getName(), person.getPhone(), person.getSchool(), person.getAddress(),
+                    new HashSet<>(person.getTags()), lessons));
+        }
+    }
+
+    @Benchmark
+    public List<Person> cachedKey() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(new SubjectComparator());
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Person> scanLessonsPerComparison() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(SCANNING_COMPARATOR);
+        return sorted;
+    }
+
+    private static long findEarliestStartNanoOfWeek(Person person) {
+        long earliest = Person.NO_LESSONS_SORT_KEY;
+        for (Lesson lesson : person.getLessons()) {
+            earliest = Math.min(earliest, lesson.getStartNanoOfWeek());
+        }
+        return earliest;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.edudex.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * Compares the latency of loading and saving a full EduDex in each data file format.
+ * Every save writes a full snapshot, as the first save after startup does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DataFileFormatBenchmark {
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"JSON", "BINARY"})
+    private DataFileFormat format;
+
+    private Path directory;
+    private EduDex eduDex;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("edudex-benchmark");
+        eduDex = RosterGenerator.generateEduDex(personCount);
+        createStorage().saveEduDex(eduDex);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : (Iterable<Path>) files::iterator) {
+                Files.delete(leftover);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private EduDexStorage createStorage() {
+        Path jsonFilePath = directory.resolve("edudex.json");
+        return format == DataFileFormat.BINARY
+                ? new BinaryEduDexStorage(BinaryEduDexStorage.getBinaryFilePath(jsonFilePath), jsonFilePath)
+                : new JsonEduDexStorage(jsonFilePath);
+    }
+
+    @Benchmark
+    public ReadOnlyEduDex load() throws DataLoadingException {
+        return createStorage().readEduDex().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        createStorage().saveEduDex(eduDex);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.edudex.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.edudex.benchmarkutil.RosterGenerator;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.commons.util.JsonUtil;
+
+/**
+ * Measures the latency of writing an EduDex snapshot at each level of durability:
+ * overwriting the file in place, replacing it atomically through a temporary file,
+ * and additionally forcing the temporary file onto the storage device before replacing the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SnapshotWriteBenchmark {
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    @Param({"IN_PLACE", "ATOMIC", "ATOMIC_FORCED"})
+    private String durability;
+
+    private Path directory;
+    private Path file;
+    private String snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("edudex-benchmark");
+        file = directory.resolve("edudex.json");
+        snapshot = JsonUtil.toJsonString(new JsonSerializableEduDex(RosterGenerator.generateEduDex(personCount)));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : (Iterable<Path>) files::iterator) {
+                Files.delete(leftover);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void writeSnapshot() throws IOException {
+        switch (durability) {
+        case "IN_PLACE":
+            FileUtil.writeToFile(file, snapshot);
+            break;
+        case "ATOMIC":
+            FileUtil.writeToFileAtomically(file, snapshot, false);
+            break;
+        case "ATOMIC_FORCED":
+            FileUtil.writeToFileAtomically(file, snapshot, true);
+            break;
+        default:
+            throw new IllegalStateException("Unknown durability level: " + durability);
+        }
+    }
+}
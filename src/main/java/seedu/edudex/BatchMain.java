@@ -0,0 +1,91 @@
+package seedu.edudex;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edudex.commons.core.Config;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.util.ConfigUtil;
+import seedu.edudex.logic.Logic;
+import seedu.edudex.logic.LogicManager;
+import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.storage.JsonUserPrefsStorage;
+import seedu.edudex.storage.Storage;
+import seedu.edudex.storage.StorageManager;
+import seedu.edudex.storage.UserPrefsStorage;
+
+/**
+ * The entry point for running a script of commands against the data file without starting the GUI, e.g.
+ *
+ *     java -cp edudex.jar seedu.edudex.BatchMain data/term4.txt rollback/
+ *
+ * The arguments are those of the {@code run} command, and the script is run exactly as that command would run it,
+ * using the config and preferences of the app in the working directory. Unlike the app, a data file that cannot be
+ * loaded is left untouched, and nothing is run.
+ */
+public class BatchMain {
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp edudex.jar " + BatchMain.class.getName()
+            + " FILE [rollback/]";
+
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_FAILURE = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the script given by {@code args} and returns the exit status of the process.
+     */
+    static int run(String[] args) {
+        if (args.length == 0) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        Config config = readConfig();
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+
+        try {
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+            Storage storage = new StorageManager(MainApp.initEduDexStorage(userPrefs), userPrefsStorage);
+            logger.info("Using data file : " + storage.getEduDexFilePath());
+            ReadOnlyEduDex eduDex = storage.readEduDex().orElseGet(EduDex::new);
+
+            Logic logic = new LogicManager(new ModelManager(eduDex, userPrefs), storage);
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + String.join(" ", args));
+            System.out.println(result.getFeedbackToUser());
+            return EXIT_SUCCESS;
+        } catch (DataLoadingException e) {
+            System.err.println("Could not load the data, so the script was not run: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    private static Config readConfig() {
+        try {
+            Optional<Config> config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE);
+            return config.orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + Config.DEFAULT_CONFIG_FILE + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.edudex;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,6 +13,7 @@ import seedu.edudex.commons.core.LogsCenter;
 import seedu.edudex.commons.core.Version;
 import seedu.edudex.commons.exceptions.DataLoadingException;
 import seedu.edudex.commons.util.ConfigUtil;
+import seedu.edudex.commons.util.FileUtil;
 import seedu.edudex.commons.util.StringUtil;
 import seedu.edudex.logic.Logic;
 import seedu.edudex.logic.LogicManager;
@@ -22,12 +24,14 @@ import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
 import seedu.edudex.model.UserPrefs;
 import seedu.edudex.model.util.SampleDataUtil;
+import seedu.edudex.storage.BinaryEduDexStorage;
 import seedu.edudex.storage.EduDexStorage;
 import seedu.edudex.storage.JsonEduDexStorage;
 import seedu.edudex.storage.JsonUserPrefsStorage;
 import seedu.edudex.storage.Storage;
 import seedu.edudex.storage.StorageManager;
 import seedu.edudex.storage.UserPrefsStorage;
+import seedu.edudex.storage.WriteBehindStorage;
 import seedu.edudex.ui.Ui;
 import seedu.edudex.ui.UiManager;
 
@@ -47,10 +51,12 @@ public class MainApp extends Application {
     protected Config config;
 
     private boolean isFirstLaunch = false;
+    private long initStartTime;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing EduDex ]===========================");
+        initStartTime = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
@@ -59,16 +65,51 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        EduDexStorage eduDexStorage = new JsonEduDexStorage(userPrefs.getEduDexFilePath());
-        storage = new StorageManager(eduDexStorage, userPrefsStorage);
+        EduDexStorage eduDexStorage = initEduDexStorage(userPrefs);
+        storage = new WriteBehindStorage(new StorageManager(eduDexStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
+        if (isFirstLaunch) {
+            // logic only saves data that commands change, so the sample data is saved here
+            saveInitialData();
+        }
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code EduDexStorage} for the data file format chosen in {@code userPrefs}.
+     * Binary data is kept next to the json data file, which it is imported from until it is first saved.
+     * If the json format is chosen while there is binary data, the binary data is converted back to json first,
+     * so that the json data file left from before the binary format was chosen is not loaded instead.
+     */
+    static EduDexStorage initEduDexStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getEduDexFilePath();
+        BinaryEduDexStorage binaryStorage =
+                new BinaryEduDexStorage(BinaryEduDexStorage.getBinaryFilePath(jsonFilePath), jsonFilePath);
+        switch (userPrefs.getEduDexFileFormat()) {
+        case BINARY:
+            return binaryStorage;
+        case JSON:
+        default:
+            if (FileUtil.isFileExists(binaryStorage.getEduDexFilePath())) {
+                migrateToJson(binaryStorage);
+            }
+            return new JsonEduDexStorage(jsonFilePath);
+        }
+    }
+
+    private static void migrateToJson(BinaryEduDexStorage binaryStorage) {
+        try {
+            binaryStorage.migrateToJson();
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert binary data file " + binaryStorage.getEduDexFilePath()
+                    + " to json: " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s EduDex and {@code userPrefs}. <br>
      * The data from the sample EduDex will be used instead if {@code storage}'s EduDex is not found,
@@ -82,7 +123,10 @@ public class MainApp extends Application {
         isFirstLaunch = false;
 
         try {
+            long loadStartTime = System.nanoTime();
             eduDexOptional = storage.readEduDex();
+            eduDexOptional.ifPresent(eduDex -> logger.info("Loaded " + eduDex.getPersonList().size()
+                    + " persons from the data file in " + getMillisSince(loadStartTime) + " ms"));
             if (!eduDexOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getEduDexFilePath()
                         + " populated with a sample EduDex.");
@@ -98,6 +142,14 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    private void saveInitialData() {
+        try {
+            storage.saveEduDex(model.getEduDex());
+        } catch (IOException e) {
+            logger.warning("Failed to save sample data : " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,11 +234,21 @@ public class MainApp extends Application {
         if (isFirstLaunch) {
             ui.showWelcomeMessage();
         }
+        logger.info("EduDex started in " + getMillisSince(initStartTime) + " ms");
+    }
+
+    private static long getMillisSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping EduDex ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.edudex.commons.core;
+
+/**
+ * The formats in which EduDex data can be stored on the hard disk.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which is the default. */
+    JSON,
+    /** Compact binary, which is faster to load and save for large amounts of data. */
+    BINARY
+}
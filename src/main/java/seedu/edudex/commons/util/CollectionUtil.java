@@ -2,9 +2,14 @@ package seedu.edudex.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,22 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the elements of {@code items} whose key, as given by {@code keyExtractor}, is the same as that of an
+     * element appearing earlier in {@code items}. The returned list is in iteration order and is empty iff all keys
+     * are distinct. Runs in a single pass over {@code items}.
+     */
+    public static <T> List<T> findDuplicates(Collection<? extends T> items, Function<? super T, ?> keyExtractor) {
+        requireNonNull(items);
+        requireNonNull(keyExtractor);
+        Set<Object> seenKeys = new HashSet<>();
+        List<T> duplicates = new ArrayList<>();
+        for (T item : items) {
+            if (!seenKeys.add(keyExtractor.apply(item))) {
+                duplicates.add(item);
+            }
+        }
+        return duplicates;
+    }
 }
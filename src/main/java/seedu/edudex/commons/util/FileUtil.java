@@ -1,10 +1,21 @@
 package seedu.edudex.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +23,32 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the content of a file from a buffer.
+     *
+     * @param <T> the type of what is read from the content.
+     * @param <E> the type of any other exception thrown when reading the content.
+     */
+    @FunctionalInterface
+    public interface ContentReader<T, E extends Exception> {
+        /**
+         * Reads the content from {@code content}, without keeping any reference to it once this returns.
+         */
+        T readFrom(ByteBuffer content) throws IOException, E;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +109,31 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Reads {@code file} into a single buffer of its size and returns what {@code contentReader} reads from it.
+     * The file is closed before {@code contentReader} is called, so it can be replaced or deleted straight after,
+     * even on platforms that lock open or memory-mapped files, such as Windows.
+     * Assumes file exists.
+     */
+    public static <T, E extends Exception> T readFromFile(Path file, ContentReader<T, E> contentReader)
+            throws IOException, E {
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to read: " + file);
+            }
+            content = ByteBuffer.allocate((int) size);
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    break; // the file was truncated while being read
+                }
+            }
+        }
+        content.flip();
+        return contentReader.readFrom(content);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +142,131 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of a file with the given string, such that the file holds either its old or its new
+     * content in full even if the app crashes midway. The content is written to a temporary file in the same
+     * directory, which is then moved over {@code file}. The file keeps its permissions, and a new file gets the
+     * default permissions of the platform.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param isForced whether the content is forced onto the storage device before the file is replaced, and the
+     *     replacement is forced onto it afterwards where the platform allows, so that both survive a power failure
+     *     or operating system crash.
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isForced) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), isForced);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, boolean)}, but the content is streamed by
+     * {@code contentWriter} into a buffered channel to the temporary file instead of being held in memory.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isForced)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFileIn(directory, file.getFileName().toString());
+
+        try {
+            copyPosixPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(tempFile, file);
+            if (isForced) {
+                forceDirectory(directory);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in {@code directory} whose name starts with {@code prefix}.
+     * Unlike {@link Files#createTempFile}, which only lets the owner read it, the file gets the default permissions
+     * of a new file, so a file it replaces does not lose the permissions it would have been created with.
+     */
+    private static Path createTempFileIn(Path directory, String prefix) throws IOException {
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+            try {
+                return Files.createFile(directory.resolve(prefix + "." + suffix + ".tmp"));
+            } catch (FileAlreadyExistsException e) {
+                // the name is taken, so another one is tried
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * has POSIX permissions.
+     */
+    private static void copyPosixPermissions(Path source, Path target) throws IOException {
+        if (!Files.exists(source)
+                || !Files.getFileStore(source).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, onto the storage device.
+     * Does nothing on platforms that cannot open a directory as a channel, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move is then only as durable as the file system makes it by itself
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the location of the {@code generation}-th most recent backup of {@code file}, starting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + ".bak." + generation);
+    }
+
+    /**
+     * Copies {@code file}, if it exists, to its most recent backup, keeping at most {@code backupCount} backups.
+     * Older backups are each moved one generation back and the oldest one is deleted.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                moveReplacing(backup, getBackupFilePath(file, generation + 1));
+            }
+        }
+        // copied rather than moved, so that the file itself is never missing
+        Files.copy(file, getBackupFilePath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
 }
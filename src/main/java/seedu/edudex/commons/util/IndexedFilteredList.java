@@ -0,0 +1,212 @@
+package seedu.edudex.commons.util;
+
+import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an {@code ObservableList} that can also be filtered by matches already looked up in an index,
+ * without testing every element of the list.
+ * <p>
+ * While filtered by {@link #setPredicate(Predicate)}, this list is the same as a {@link FilteredList}: it shows the
+ * elements of the list matching the predicate, in their order in the list. While filtered by
+ * {@link #setMatches(Collection, Predicate)}, it shows the given matches in their iteration order, and only the
+ * elements changed in the list afterwards are tested: elements removed from the list are removed from this list,
+ * and elements added to the list are appended to this list if they match.
+ */
+public class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private final FilteredList<E> filtered;
+    private final List<E> matches = new ArrayList<>();
+    // the predicate the matches were looked up by, or null while filtered by a predicate
+    private Predicate<? super E> matchPredicate;
+    private boolean isSwitchingToPredicate;
+
+    /**
+     * Creates an {@code IndexedFilteredList} of {@code source}, showing all of its elements.
+     */
+    public IndexedFilteredList(ObservableList<E> source) {
+        super(source);
+        filtered = new FilteredList<>(source);
+        filtered.addListener(this::filteredChanged);
+    }
+
+    /**
+     * Shows the elements of the source list matching {@code predicate}, or all elements if {@code predicate} is
+     * null. Tests every element of the source list.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (matchPredicate == null) {
+            filtered.setPredicate(predicate);
+            return;
+        }
+
+        beginChange();
+        List<E> oldMatches = new ArrayList<>(matches);
+        matches.clear();
+        matchPredicate = null;
+        // the change fired by the filtered list is passed on below as a single replacement
+        isSwitchingToPredicate = true;
+        try {
+            filtered.setPredicate(predicate);
+        } finally {
+            isSwitchingToPredicate = false;
+        }
+        if (!oldMatches.isEmpty() || !filtered.isEmpty()) {
+            nextReplace(0, filtered.size(), oldMatches);
+        }
+        endChange();
+    }
+
+    /**
+     * Shows {@code matches}, which must be exactly the elements of the source list matching {@code predicate}, in
+     * time proportional to their number. {@code predicate} is only tested on the elements changed in the source
+     * list while the matches are shown.
+     */
+    public void setMatches(Collection<? extends E> matches, Predicate<? super E> predicate) {
+        requireAllNonNull(matches, predicate);
+
+        beginChange();
+        List<E> oldElements = new ArrayList<>(this);
+        this.matches.clear();
+        this.matches.addAll(matches);
+        matchPredicate = predicate;
+        if (!oldElements.isEmpty() || !this.matches.isEmpty()) {
+            nextReplace(0, this.matches.size(), oldElements);
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on the changes of the filtered list while filtered by a predicate.
+     */
+    private void filteredChanged(ListChangeListener.Change<? extends E> change) {
+        if (matchPredicate != null || isSwitchingToPredicate) {
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Updates the matches with the elements changed in the source list while filtered by matches.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (matchPredicate == null) {
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // the matches are not kept in the order of the source list
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (E element : change.getList().subList(change.getFrom(), change.getTo())) {
+                    replaceMatch(matches.indexOf(element), element);
+                }
+                continue;
+            }
+
+            List<? extends E> removed = change.getRemoved();
+            List<? extends E> added = change.wasAdded() ? change.getAddedSubList() : List.of();
+            // an element replaced in the source list keeps its place in this list if the new element matches
+            for (int i = 0; i < removed.size(); i++) {
+                int matchIndex = matches.indexOf(removed.get(i));
+                if (i < added.size()) {
+                    replaceMatch(matchIndex, added.get(i));
+                } else if (matchIndex >= 0) {
+                    nextRemove(matchIndex, matches.remove(matchIndex));
+                }
+            }
+            for (int i = removed.size(); i < added.size(); i++) {
+                replaceMatch(-1, added.get(i));
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Puts {@code element} in place of the match at {@code matchIndex}, or appends it if {@code matchIndex} is
+     * negative, if it matches. Otherwise removes the match at {@code matchIndex}, if any.
+     */
+    private void replaceMatch(int matchIndex, E element) {
+        boolean isMatch = matchPredicate.test(element);
+        if (isMatch && matchIndex >= 0) {
+            nextSet(matchIndex, matches.set(matchIndex, element));
+        } else if (isMatch) {
+            matches.add(element);
+            nextAdd(matches.size() - 1, matches.size());
+        } else if (matchIndex >= 0) {
+            nextRemove(matchIndex, matches.remove(matchIndex));
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return matchPredicate == null ? filtered.get(index) : matches.get(index);
+    }
+
+    @Override
+    public int size() {
+        return matchPredicate == null ? filtered.size() : matches.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Takes linear time while filtered by matches.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        if (matchPredicate == null) {
+            return filtered.getSourceIndex(index);
+        }
+        return getSource().indexOf(matches.get(Objects.checkIndex(index, size())));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Takes linear time while filtered by matches.
+     */
+    @Override
+    public int getViewIndex(int index) {
+        if (matchPredicate == null) {
+            return filtered.getViewIndex(index);
+        }
+        return matches.indexOf(getSource().get(index));
+    }
+}
@@ -0,0 +1,282 @@
+package seedu.edudex.commons.util;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * An immutable list that shares structure with the lists it is made from.
+ * <p>
+ * The elements are kept in a balanced (AVL) binary tree ordered by position, where each node knows the size of its
+ * subtree. Reading an element takes logarithmic time. Adding, replacing or removing an element makes a new list in
+ * logarithmic time, by copying only the nodes on the path to that element and sharing every other node with the old
+ * list, which stays unchanged. Holding on to a list is therefore a constant-time snapshot of it.
+ * <p>
+ * The mutator methods of {@code List} throw {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in its iteration order. Takes linear time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] array, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(array, from, middle), (E) array[middle], build(array, middle + 1, to));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (remaining < leftSize) {
+                node = node.left;
+            } else if (remaining > leftSize) {
+                remaining -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end of this list.
+     */
+    public PersistentList<E> withAdded(E element) {
+        return withAdded(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index} of this list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of this list.
+     */
+    public PersistentList<E> withAdded(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if there is no element at {@code index}.
+     */
+    public PersistentList<E> withReplaced(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index} of this list.
+     *
+     * @throws IndexOutOfBoundsException if there is no element at {@code index}.
+     */
+    public PersistentList<E> without(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        int index = 0;
+        for (E candidate : this) {
+            if (Objects.equals(candidate, element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the element whose key, as returned by {@code keyOf}, is {@code key}, or -1 if there is no
+     * such element, in logarithmic time. The elements of this list must be in increasing order of their keys.
+     */
+    public int indexOfKey(ToLongFunction<? super E> keyOf, long key) {
+        int offset = 0;
+        Node<E> node = root;
+        while (node != null) {
+            long nodeKey = keyOf.applyAsLong(node.value);
+            if (key < nodeKey) {
+                node = node.left;
+            } else if (key > nodeKey) {
+                offset += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                return offset + sizeOf(node.left);
+            }
+        }
+        return -1;
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // the next element takes the place of the removed one
+        Node<E> next = node.right;
+        while (next.left != null) {
+            next = next.left;
+        }
+        return balance(node.left, next.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code value} between {@code left} and {@code right}, rotated to be balanced again.
+     * The heights of {@code left} and {@code right} must differ by at most 2.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never modified once made.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, in constant amortized time per element.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+    }
+}
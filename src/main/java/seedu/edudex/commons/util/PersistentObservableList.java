@@ -0,0 +1,93 @@
+package seedu.edudex.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A modifiable {@code ObservableList} backed by a {@link PersistentList}.
+ * <p>
+ * Each change to this list replaces the backing list with a new one sharing most of its structure, so the
+ * contents of this list at any moment can be kept by {@link #snapshot()} in constant time. Reading or changing
+ * an element takes logarithmic time.
+ */
+public class PersistentObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentList<E> elements;
+
+    /**
+     * Creates an empty {@code PersistentObservableList}.
+     */
+    public PersistentObservableList() {
+        this(PersistentList.empty());
+    }
+
+    /**
+     * Creates a {@code PersistentObservableList} holding {@code elements}, in constant time.
+     */
+    public PersistentObservableList(PersistentList<E> elements) {
+        this.elements = requireNonNull(elements);
+    }
+
+    /**
+     * Returns the current contents of this list, which are not affected by later changes to this list.
+     */
+    public PersistentList<E> snapshot() {
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return elements.indexOf(element);
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.withAdded(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E old = elements.get(index);
+        elements = elements.withReplaced(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = elements.get(index);
+        elements = elements.without(index);
+        return old;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements}, as a single change.
+     * A {@code PersistentList} is shared instead of copied.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        beginChange();
+        PersistentList<E> oldElements = elements;
+        elements = PersistentList.copyOf(newElements);
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.edudex.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written scanners for the simple validation regexes of the model's value objects.
+ * Each scanner accepts exactly the strings its regex matches, without the cost of compiling and running a regex.
+ * As in the regexes, {@code \p{Alnum}} and {@code \d} only cover ASCII characters.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*}: an alphanumeric character followed by
+     * any number of alphanumeric characters and spaces.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}: one or more alphanumeric characters.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \d{minLength,}}: at least {@code minLength} digits.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
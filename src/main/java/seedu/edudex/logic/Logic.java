@@ -9,6 +9,7 @@ import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 
 /**
@@ -34,6 +35,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns an unmodifiable view of the filtered list of persons as it is displayed */
+    ObservableList<PersonSubjectView> getDisplayedPersonList();
+
     /** Returns an unmodifiable view of the filtered list of subjects */
     ObservableList<Subject> getSubjectList();
 
@@ -3,6 +3,7 @@ package seedu.edudex.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,9 +14,11 @@ import seedu.edudex.logic.commands.CommandResult;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.logic.parser.EduDexParser;
 import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.storage.Storage;
 
@@ -28,38 +31,114 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String EARLIER_SAVE_FAILED_FORMAT =
+            "Warning: an earlier save of the data failed and will be retried with the next change: %s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final EduDexParser eduDexParser;
+    private EduDexSnapshot lastSaved;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The EduDex in {@code model} is taken to be already saved in {@code storage}, so it is only saved
+     * once a command changes it, and commands that only read it, such as {@code find}, never write to storage.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         eduDexParser = new EduDexParser();
+        lastSaved = model.getEduDex().snapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = eduDexParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            // commands that run others, such as scripts, may have changed the data before failing
+            try {
+                saveIfChanged();
+            } catch (CommandException saveException) {
+                e.addSuppressed(saveException);
+            }
+            throw withSaveFailureReported(e);
+        }
+
+        saveIfChanged();
+        if (commandResult.isExit()) {
+            // make sure everything is on disk before the app closes
+            try {
+                storage.flush();
+            } catch (IOException ioe) {
+                throw toCommandException(ioe);
+            }
+        }
 
+        return withSaveFailureReported(commandResult);
+    }
+
+    /**
+     * Returns {@code commandResult} with a warning added if an earlier save of the data failed in the background.
+     * The command itself has succeeded, so the failure is only reported.
+     */
+    private CommandResult withSaveFailureReported(CommandResult commandResult) {
+        Optional<String> warning = getSaveFailureWarning();
+        if (warning.isEmpty()) {
+            return commandResult;
+        }
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + warning.get(),
+                commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    /**
+     * Returns {@code e} with a warning added if an earlier save of the data failed in the background.
+     */
+    private CommandException withSaveFailureReported(CommandException e) {
+        Optional<String> warning = getSaveFailureWarning();
+        if (warning.isEmpty()) {
+            return e;
+        }
+        return new CommandException(e.getMessage() + "\n" + warning.get(), e);
+    }
+
+    private Optional<String> getSaveFailureWarning() {
+        return storage.getSaveFailure()
+                .map(saveFailure -> String.format(EARLIER_SAVE_FAILED_FORMAT, saveFailure.getMessage()));
+    }
+
+    /**
+     * Saves the EduDex if it has changed since it was last saved.
+     * Data that was changed and then restored to the snapshot that was last saved, such as by a script whose
+     * changes were all rolled back, counts as unchanged.
+     */
+    private void saveIfChanged() throws CommandException {
+        ReadOnlyEduDex eduDex = model.getEduDex();
+        EduDexSnapshot current = eduDex.snapshot();
+        if (current.getVersion() == lastSaved.getVersion() || current.hasSameListsAs(lastSaved)) {
+            logger.fine("EduDex unchanged, skipping save");
+            lastSaved = current;
+            return;
+        }
         try {
-            storage.saveEduDex(model.getEduDex());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveEduDex(eduDex);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+        lastSaved = current;
+    }
 
-        return commandResult;
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -72,6 +151,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<PersonSubjectView> getDisplayedPersonList() {
+        return model.getDisplayedPersonList();
+    }
+
     @Override
     public ObservableList<Subject> getSubjectList() {
         return model.getSubjectList();
@@ -77,7 +77,6 @@ public class AddLessonCommand extends Command {
         }
 
         Person originalStudent = lastShownList.get(studentIndex.getZeroBased());
-        Person updatedStudent = originalStudent.getCopyOfPerson();
 
         // If we have conflicting lesson timings, throw exception
         // 1) Check for conflicting lessons within the same student's lessons
@@ -94,7 +93,7 @@ public class AddLessonCommand extends Command {
                     + personWithLessonConflict.getName());
         }
 
-        updatedStudent.addLesson(lessonToAdd);
+        Person updatedStudent = originalStudent.withAddedLesson(lessonToAdd);
         model.setPerson(originalStudent, updatedStudent);
 
         return new CommandResult(String.format(
@@ -2,7 +2,6 @@ package seedu.edudex.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.edudex.commons.core.index.Index;
@@ -12,6 +11,7 @@ import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 
 /**
  * Deletes a lesson (by index) from a specific student in EduDex.
@@ -54,27 +54,22 @@ public class DeleteLessonCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<PersonSubjectView> lastShownList = model.getDisplayedPersonList();
 
         if (studentIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person studentToEdit = lastShownList.get(studentIndex.getZeroBased());
-        List<Lesson> currentLessons = new ArrayList<>(studentToEdit.getLessons());
+        PersonSubjectView shownStudent = lastShownList.get(studentIndex.getZeroBased());
+        List<Lesson> shownLessons = shownStudent.getLessons();
 
-        if (lessonIndex.getZeroBased() >= currentLessons.size()) {
+        if (lessonIndex.getZeroBased() >= shownLessons.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_INDEX);
         }
 
-        Lesson lessonToDelete = currentLessons.remove(lessonIndex.getZeroBased());
-
-        Person updatedPerson = new Person(studentToEdit.getName(),
-                studentToEdit.getPhone(),
-                studentToEdit.getSchool(),
-                studentToEdit.getAddress(),
-                studentToEdit.getTags());
-        updatedPerson.setLessons(currentLessons);
+        Person studentToEdit = shownStudent.getPerson();
+        Lesson lessonToDelete = shownLessons.get(lessonIndex.getZeroBased());
+        Person updatedPerson = studentToEdit.withoutLesson(shownStudent.toPersonLessonIndex(lessonIndex));
 
         model.setPerson(studentToEdit, updatedPerson);
 
@@ -8,7 +8,6 @@ import static seedu.edudex.logic.parser.CliSyntax.PREFIX_SCHOOL;
 import static seedu.edudex.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -105,9 +104,7 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         List<Lesson> currentLessons = personToEdit.getLessons();
 
-        Person updatedPerson = new Person(updatedName, updatedPhone, updatedSchool, updatedAddress, updatedTags);
-        updatedPerson.setLessons(new ArrayList<>(currentLessons));
-        return updatedPerson;
+        return new Person(updatedName, updatedPhone, updatedSchool, updatedAddress, updatedTags, currentLessons);
     }
 
     @Override
@@ -8,7 +8,6 @@ import static seedu.edudex.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.edudex.model.person.Lesson.MESSAGE_CONFLICTING_LESSON;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.edudex.commons.core.index.Index;
@@ -20,6 +19,7 @@ import seedu.edudex.model.Model;
 import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.person.Time;
 import seedu.edudex.model.subject.Subject;
 
@@ -70,45 +70,46 @@ public class EditLessonCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<PersonSubjectView> lastShownList = model.getDisplayedPersonList();
 
         if (personIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Person personToEdit = lastShownList.get(personIndex.getZeroBased());
-        Person editedPerson;
+        PersonSubjectView shownPerson = lastShownList.get(personIndex.getZeroBased());
+        Lesson editedLesson;
 
         try {
-            editedPerson = createEditedPersonWithLesson(personToEdit, lessonIndex, editLessonDescriptor, model);
+            editedLesson = createEditedLesson(shownPerson, lessonIndex, editLessonDescriptor, model);
         } catch (IllegalArgumentException e) {
             throw new CommandException(e.getMessage());
         }
 
+        Person personToEdit = shownPerson.getPerson();
+        Person editedPerson = personToEdit.withEditedLesson(shownPerson.toPersonLessonIndex(lessonIndex), editedLesson);
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        Lesson editedLesson = editedPerson.getLessons().get(lessonIndex.getZeroBased());
         return new CommandResult(String.format(MESSAGE_EDIT_LESSON_SUCCESS,
                 editedPerson.getName(), editedLesson));
     }
 
     /**
-     * Creates and returns a {@code Person} with the edited lesson.
+     * Creates and returns the edited lesson of the person shown by {@code shownPerson}.
      *
-     * @param personToEdit The person whose lesson is to be edited.
-     * @param lessonIndex The index of the lesson to edit in the person's lesson list.
+     * @param shownPerson The person whose lesson is to be edited, as they are displayed.
+     * @param lessonIndex The index of the lesson to edit in the displayed lesson list.
      * @param editLessonDescriptor Details of the lesson fields to edit.
      * @param model The model containing the application's data and business logic.
-     * @return A new {@code Person} object with the edited lesson.
+     * @return The edited {@code Lesson}, which does not conflict with any other lesson.
      * @throws CommandException If the lesson cannot be edited due to validation failures.
      */
-    private Person createEditedPersonWithLesson(Person personToEdit, Index lessonIndex,
-                                                EditLessonDescriptor editLessonDescriptor,
-                                                Model model) throws CommandException {
-        assert personToEdit != null;
+    private Lesson createEditedLesson(PersonSubjectView shownPerson, Index lessonIndex,
+                                      EditLessonDescriptor editLessonDescriptor,
+                                      Model model) throws CommandException {
+        assert shownPerson != null;
 
-        List<Lesson> currentLessons = personToEdit.getLessons();
+        List<Lesson> currentLessons = shownPerson.getLessons();
 
         if (currentLessons == null || currentLessons.isEmpty()) {
             throw new IllegalArgumentException(Messages.MESSAGE_NO_LESSONS);
@@ -135,7 +136,9 @@ public class EditLessonCommand extends Command {
         Lesson editedLesson = new Lesson(updatedSubject, updatedDay, updatedStartTime, updatedEndTime);
 
         // Check for conflicting lessons within the same person's lessons
-        Lesson conflictedLesson = personToEdit.hasLessonConflict(editedLesson, lessonIndex);
+        Person personToEdit = shownPerson.getPerson();
+        Lesson conflictedLesson = personToEdit.hasLessonConflict(editedLesson,
+                shownPerson.toPersonLessonIndex(lessonIndex));
         if (conflictedLesson != null) {
             throw new IllegalArgumentException(MESSAGE_CONFLICTING_LESSON
                     + "\nConflicts with an existing lesson the student has: " + conflictedLesson);
@@ -148,18 +151,7 @@ public class EditLessonCommand extends Command {
                     + personWithLessonConflict.getName());
         }
 
-        // Create a new list of lessons with the edited lesson
-        List<Lesson> newLessons = new ArrayList<>(currentLessons);
-        newLessons.set(lessonIndex.getZeroBased(), editedLesson);
-
-        Person editedPerson = new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getSchool(),
-                personToEdit.getAddress(),
-                personToEdit.getTags());
-        editedPerson.setLessons(newLessons);
-        return editedPerson;
+        return editedLesson;
     }
 
     @Override
@@ -102,21 +102,21 @@ public class FindCommand extends Command {
 
         switch (searchType) {
         case DAY:
-            model.updateFilteredPersonList(dayPredicate);
+            // the model looks the persons up in its day index instead of testing every lesson of every person
+            model.updateFilteredPersonListByDay(dayPredicate.getDay());
             model.sortFilteredPersonList(new SubjectComparator());
-            model.sortLessonsForEachPerson();
             break;
         case SUBJECT:
-            Subject subject = new Subject(subjectPredicate.getSubjectKeyword());
+            Subject subject = Subject.of(subjectPredicate.getSubjectKeyword());
             subject.existsIn(model);
 
-            model.updateFilteredPersonList(subjectPredicate);
-            model.sortFilteredPersonList(new SubjectComparator());
-            model.sortLessonsForEachPersonBySubject(subjectPredicate.getSubjectKeyword());
+            // the model looks the persons up in its subject index instead of testing every lesson of every person
+            model.updateFilteredPersonListBySubject(subject);
             break;
         case NAME:
         default:
-            model.updateFilteredPersonList(namePredicate);
+            // the model looks the persons up in its name index instead of testing the name of every person
+            model.updateFilteredPersonListByName(namePredicate);
             break;
         }
 
@@ -0,0 +1,182 @@
+package seedu.edudex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.EduDexParser;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * Runs a script of commands from a file, one command per line, as a single command.
+ * <p>
+ * The whole script is parsed before any command in it is executed, so a script with a mistyped command changes
+ * nothing. The commands are then executed in order until one fails. If requested, the changes made by the commands
+ * before the failed one are rolled back as well, even if the command failed with an unexpected error. Either way,
+ * the data is saved once after the script has run, rather than after every command in it, and not at all if every
+ * change was rolled back.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** The start of a line in a script that is not a command. */
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line. "
+            + "Blank lines and lines starting with " + COMMENT_START + " are skipped.\n"
+            + "Stops at the first command that fails, undoing all the commands before it if rollback/ is given.\n"
+            + "Parameters: FILE [rollback/]\n"
+            + "Example: " + COMMAND_WORD + " data/term4.txt rollback/";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the script is invalid, so no commands were run.\n"
+            + "%2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_EXIT_IN_SCRIPT = "Scripts cannot exit the app.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d of the script failed after %2$d commands were run, "
+            + "which were kept.\n%3$s";
+    public static final String MESSAGE_FAILED_LINE_ROLLED_BACK = "Line %1$d of the script failed, "
+            + "so all of its changes were undone.\n%2$s";
+
+    private final Path scriptFile;
+    private final boolean isRollbackOnFailure;
+    private final EduDexParser scriptParser;
+
+    /**
+     * Creates a {@code RunCommand} to run the script in {@code scriptFile}, undoing the changes of the whole script
+     * when a command in it fails if {@code isRollbackOnFailure} is true. The script may only use built-in commands.
+     */
+    public RunCommand(Path scriptFile, boolean isRollbackOnFailure) {
+        this(scriptFile, isRollbackOnFailure, new EduDexParser());
+    }
+
+    /**
+     * Creates a {@code RunCommand} to run the script in {@code scriptFile}, parsed by {@code scriptParser}, undoing
+     * the changes of the whole script when a command in it fails if {@code isRollbackOnFailure} is true.
+     */
+    public RunCommand(Path scriptFile, boolean isRollbackOnFailure, EduDexParser scriptParser) {
+        requireNonNull(scriptFile);
+        requireNonNull(scriptParser);
+        this.scriptFile = scriptFile;
+        this.isRollbackOnFailure = isRollbackOnFailure;
+        this.scriptParser = scriptParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ScriptLine> script = parseScript(readScript());
+
+        ReadOnlyEduDex original = isRollbackOnFailure ? model.getEduDex().snapshot() : null;
+        int executedCount = 0;
+        for (ScriptLine line : script) {
+            try {
+                line.command.execute(model);
+            } catch (CommandException e) {
+                if (isRollbackOnFailure) {
+                    model.setEduDex(original);
+                    throw new CommandException(String.format(MESSAGE_FAILED_LINE_ROLLED_BACK, line.lineNumber,
+                            e.getMessage()), e);
+                }
+                throw new CommandException(String.format(MESSAGE_FAILED_LINE, line.lineNumber, executedCount,
+                        e.getMessage()), e);
+            } catch (RuntimeException e) {
+                if (isRollbackOnFailure) {
+                    model.setEduDex(original);
+                }
+                throw e;
+            }
+            executedCount++;
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount, scriptFile));
+    }
+
+    private List<String> readScript() throws CommandException {
+        try {
+            return Files.readAllLines(scriptFile, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptFile, ioe.getMessage()), ioe);
+        }
+    }
+
+    /**
+     * Parses every command in {@code lines}, skipping blank lines and comments.
+     *
+     * @throws CommandException if any command could not be parsed, or is itself a {@code RunCommand} or an
+     *     {@code ExitCommand}.
+     */
+    private List<ScriptLine> parseScript(List<String> lines) throws CommandException {
+        List<ScriptLine> script = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            Command command;
+            try {
+                command = scriptParser.parseCommand(line);
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            if (command instanceof RunCommand) {
+                throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, MESSAGE_NESTED_SCRIPT));
+            }
+            if (command instanceof ExitCommand) {
+                throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, MESSAGE_EXIT_IN_SCRIPT));
+            }
+            script.add(new ScriptLine(lineNumber, command));
+        }
+        return script;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFile.equals(otherRunCommand.scriptFile)
+                && isRollbackOnFailure == otherRunCommand.isRollbackOnFailure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("isRollbackOnFailure", isRollbackOnFailure)
+                .toString();
+    }
+
+    /**
+     * A parsed command and the line of the script it is on.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        ScriptLine(int lineNumber, Command command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+    }
+}
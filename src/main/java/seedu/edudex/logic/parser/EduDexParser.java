@@ -1,11 +1,12 @@
 package seedu.edudex.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.edudex.commons.core.LogsCenter;
 import seedu.edudex.logic.commands.AddCommand;
@@ -22,18 +23,69 @@ import seedu.edudex.logic.commands.ExitCommand;
 import seedu.edudex.logic.commands.FindCommand;
 import seedu.edudex.logic.commands.HelpCommand;
 import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * <p>
+ * Each command word is mapped to the parser of its arguments. Parsers hold no state, so a single instance of each
+ * is shared by every parse of this {@code EduDexParser}. Each {@code EduDexParser} starts out with the built-in
+ * commands, and further commands can be added to it with {@link #registerCommand(String, Parser)}.
  */
 public class EduDexParser {
 
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word must be non-empty with no whitespace: %s";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word is already registered: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(EduDexParser.class);
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code EduDexParser} that parses the built-in commands.
+     * Scripts run by the {@code run} command are parsed by this parser too.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(EduDexParser.class);
+    public EduDexParser() {
+        registerCommand(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registerCommand(AddSubjectCommand.COMMAND_WORD, new AddSubjectCommandParser());
+        registerCommand(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registerCommand(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registerCommand(DeleteSubjectCommand.COMMAND_WORD, new DeleteSubjectCommandParser());
+        registerCommand(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registerCommand(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registerCommand(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registerCommand(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registerCommand(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registerCommand(AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser());
+        registerCommand(DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser());
+        registerCommand(EditLessonCommand.COMMAND_WORD, new EditLessonCommandParser());
+        registerCommand(RunCommand.COMMAND_WORD, new RunCommandParser(this));
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}.
+     * {@code parser} is shared by all parses, so it must not hold any state between them.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace, or is already registered.
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (commandWord.isEmpty() || findCommandWordEnd(commandWord) != commandWord.length()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_COMMAND_WORD, commandWord));
+        }
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        }
+    }
+
+    /**
+     * Returns true if commands starting with {@code commandWord} can be parsed.
+     */
+    public boolean isRegisteredCommand(String commandWord) {
+        requireNonNull(commandWord);
+        return parsers.containsKey(commandWord);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -43,64 +95,56 @@ public class EduDexParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (commandWordEnd == 0 || hasLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddSubjectCommand.COMMAND_WORD:
-            return new AddSubjectCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteSubjectCommand.COMMAND_WORD:
-            return new DeleteSubjectCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddLessonCommand.COMMAND_WORD:
-            return new AddLessonCommandParser().parse(arguments);
+        final Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
+    /**
+     * Returns the index of the first whitespace character in {@code input}, or its length if there is none.
+     * Whitespace is that of the regex {@code \s}: space, tab, line feed, vertical tab, form feed and carriage return.
+     */
+    private static int findCommandWordEnd(String input) {
+        int end = 0;
+        while (end < input.length() && !isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        case EditLessonCommand.COMMAND_WORD:
-            return new EditLessonCommandParser().parse(arguments);
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator from {@code fromIndex} onwards.
+     * Arguments spanning several lines were never accepted, as {@code .} in a regex does not match them.
+     */
+    private static boolean hasLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
 }
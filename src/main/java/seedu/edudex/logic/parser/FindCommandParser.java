@@ -48,7 +48,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 throw new ParseException(Day.MESSAGE_CONSTRAINTS);
             }
 
-            return new FindCommand(new DayMatchesPredicate(new Day(dayValue.trim())));
+            return new FindCommand(new DayMatchesPredicate(Day.of(dayValue.trim())));
         }
 
         // find by subject (e.g. "find s/Math")
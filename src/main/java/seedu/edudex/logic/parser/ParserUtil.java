@@ -2,6 +2,9 @@ package seedu.edudex.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -25,6 +28,7 @@ import seedu.edudex.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not a valid path.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -139,7 +143,7 @@ public class ParserUtil {
         if (!Day.isValidDay(trimmedDay)) {
             throw new ParseException(Day.MESSAGE_CONSTRAINTS);
         }
-        return new Day(trimmedDay);
+        return Day.of(trimmedDay);
     }
 
     /**
@@ -169,7 +173,7 @@ public class ParserUtil {
         if (trimConsecutiveWhiteSpaces.isEmpty() || !Subject.isValidSubjectName(trimConsecutiveWhiteSpaces)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimConsecutiveWhiteSpaces);
+        return Subject.of(trimConsecutiveWhiteSpaces);
     }
 
     /**
@@ -191,4 +195,23 @@ public class ParserUtil {
         return new Lesson(subjectObj, dayObj, startTimeObj, endTimeObj);
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, ipe);
+        }
+    }
+
 }
@@ -0,0 +1,52 @@
+package seedu.edudex.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+
+import java.nio.file.Path;
+
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    private final EduDexParser scriptParser;
+
+    /**
+     * Creates a {@code RunCommandParser} whose scripts are parsed by a new {@code EduDexParser}.
+     */
+    public RunCommandParser() {
+        this(new EduDexParser());
+    }
+
+    /**
+     * Creates a {@code RunCommandParser} whose scripts are parsed by {@code scriptParser}.
+     */
+    public RunCommandParser(EduDexParser scriptParser) {
+        requireNonNull(scriptParser);
+        this.scriptParser = scriptParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ROLLBACK);
+
+        boolean isRollbackOnFailure = argMultimap.getValue(PREFIX_ROLLBACK).isPresent();
+        if (argMultimap.getPreamble().isEmpty() || !argMultimap.getValue(PREFIX_ROLLBACK).orElse("").isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ROLLBACK);
+
+        Path scriptFile = ParserUtil.parseFilePath(argMultimap.getPreamble());
+        return new RunCommand(scriptFile, isRollbackOnFailure, scriptParser);
+    }
+}
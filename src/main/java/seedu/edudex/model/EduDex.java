@@ -3,10 +3,15 @@ package seedu.edudex.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonAttributeIndex;
+import seedu.edudex.model.person.LessonConflictIndex;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.UniquePersonList;
 import seedu.edudex.model.subject.Subject;
@@ -15,11 +20,22 @@ import seedu.edudex.model.subject.UniqueSubjectList;
 /**
  * Wraps all data at the EduDex level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Indexes over the lessons of all persons are kept in sync with the person list by listening to its changes.
+ * The listener is registered before any view of the list can be created, so the indexes are already up to date
+ * when listeners registered later, such as filtered views of the list, are notified.
+ *
+ * The persons and subjects are kept in persistent lists that share structure between versions, so a snapshot of
+ * the data takes constant time however large it is.
  */
 public class EduDex implements ReadOnlyEduDex {
 
     private final UniquePersonList persons;
     private final UniqueSubjectList subjects;
+    private final LessonConflictIndex lessonConflictIndex;
+    private final LessonAttributeIndex<Subject> subjectIndex;
+    private final LessonAttributeIndex<Day> dayIndex;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,6 +47,12 @@ public class EduDex implements ReadOnlyEduDex {
     {
         persons = new UniquePersonList();
         subjects = new UniqueSubjectList();
+        lessonConflictIndex = new LessonConflictIndex();
+        subjectIndex = new LessonAttributeIndex<>(Lesson::getSubject);
+        dayIndex = new LessonAttributeIndex<>(Lesson::getDay);
+        persons.asUnmodifiableObservableList().addListener(this::updateLessonIndexes);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        subjects.asUnmodifiableObservableList().addListener((ListChangeListener<Subject>) change -> version++);
     }
 
     public EduDex() {}
@@ -67,10 +89,26 @@ public class EduDex implements ReadOnlyEduDex {
     public void resetData(ReadOnlyEduDex newData) {
         requireNonNull(newData);
 
+        if (newData instanceof EduDexSnapshot) {
+            restore((EduDexSnapshot) newData);
+            return;
+        }
         setPersons(newData.getPersonList());
         setSubjects(newData.getSubjectList());
     }
 
+    /**
+     * Resets the existing data of this {@code EduDex} to {@code snapshot}.
+     * The persistent lists of the snapshot are taken over without being copied or checked for duplicates,
+     * but the indexes over the persons are still rebuilt in linear time.
+     */
+    public void restore(EduDexSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        persons.restore(snapshot.getPersons());
+        subjects.restore(snapshot.getSubjects());
+    }
+
     //// subject-level operations
 
     /**
@@ -146,6 +184,54 @@ public class EduDex implements ReadOnlyEduDex {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons having a name word that starts with any of {@code prefixes}, ignoring case, in their order
+     * in the person list.
+     */
+    public Set<Person> findPersonsWithNameWordStartingWith(List<String> prefixes) {
+        return persons.findPersonsWithNameWordStartingWith(prefixes);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons having at least one lesson of {@code subject}.
+     * The view is only valid until this EduDex is next changed.
+     */
+    public Set<Person> getPersonsWithSubject(Subject subject) {
+        requireNonNull(subject);
+        return subjectIndex.getPersons(subject);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons having at least one lesson on {@code day}.
+     * The view is only valid until this EduDex is next changed.
+     */
+    public Set<Person> getPersonsWithLessonsOn(Day day) {
+        requireNonNull(day);
+        return dayIndex.getPersons(day);
+    }
+
+    /**
+     * Updates the lesson indexes with the persons added to and removed from the person list in {@code change}.
+     */
+    private void updateLessonIndexes(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                for (Person removed : change.getRemoved()) {
+                    lessonConflictIndex.remove(removed);
+                    subjectIndex.remove(removed);
+                    dayIndex.remove(removed);
+                }
+            }
+            if (change.wasAdded()) {
+                for (Person added : change.getAddedSubList()) {
+                    lessonConflictIndex.add(added);
+                    subjectIndex.add(added);
+                    dayIndex.add(added);
+                }
+            }
+        }
+    }
+
     //// util methods
 
     @Override
@@ -165,6 +251,21 @@ public class EduDex implements ReadOnlyEduDex {
         return subjects.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a read-only snapshot of the data as it is now, in constant time.
+     * The snapshot shares the persons and subjects lists with this EduDex instead of copying them,
+     * and is not affected by later changes to this EduDex.
+     */
+    @Override
+    public EduDexSnapshot snapshot() {
+        return new EduDexSnapshot(persons.snapshot(), subjects.snapshot(), version);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -188,26 +289,13 @@ public class EduDex implements ReadOnlyEduDex {
     /**
      * Finds and returns a person who has a lesson that conflicts with the given lesson.
      * Excludes the specified person from the search.
+     * Looks up the lessons held on the same day in the {@code LessonConflictIndex},
+     * so only lessons that may overlap {@code lesson} are examined.
      * @param lesson
      * @param personToExclude
      * @return Person with conflicting lesson, or null if none found.
      */
     public Person findPersonWithLessonConflict(Lesson lesson, Person personToExclude) {
-        for (Person person : persons) {
-            if (person.equals(personToExclude)) {
-                continue; // skip checking against the specified editing person
-            }
-            // null index since not editing existing lesson
-            Lesson conflictingLesson = person.hasLessonConflict(lesson, null);
-
-            if (conflictingLesson == null) {
-                continue; // no conflict for this person
-            }
-            if (conflictingLesson.equals(lesson)) {
-                continue; // another person can have the same lesson - same day,time - not a conflict
-            }
-            return person; // found a person with a conflicting lesson
-        }
-        return null; // no conflicts found
+        return lessonConflictIndex.findPersonWithConflict(lesson, personToExclude);
     }
 }
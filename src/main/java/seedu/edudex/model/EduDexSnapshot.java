@@ -0,0 +1,82 @@
+package seedu.edudex.model;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edudex.commons.util.PersistentList;
+import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * An unmodifiable EduDex as it was at one moment, made by {@link ReadOnlyEduDex#snapshot()}.
+ * Its lists are views of persistent lists, which never change and may share structure with the lists of the EduDex
+ * the snapshot was taken from.
+ */
+public final class EduDexSnapshot implements ReadOnlyEduDex {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Subject> subjects;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Subject> subjectList;
+    private final long version;
+
+    EduDexSnapshot(PersistentList<Person> persons, PersistentList<Subject> subjects, long version) {
+        this.persons = persons;
+        this.subjects = subjects;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.subjectList = FXCollections.unmodifiableObservableList(FXCollections.observableList(subjects));
+        this.version = version;
+    }
+
+    /**
+     * Returns the persons of this snapshot as a persistent list, to make changed copies of it from.
+     */
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the subjects of this snapshot as a persistent list, to make changed copies of it from.
+     */
+    public PersistentList<Subject> getSubjects() {
+        return subjects;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Subject> getSubjectList() {
+        return subjectList;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot holds the very same persons and subjects lists as {@code other}, in constant
+     * time. Snapshots of the same data that were not restored from one another may still be reported as different.
+     */
+    public boolean hasSameListsAs(EduDexSnapshot other) {
+        return persons == other.persons && subjects == other.subjects;
+    }
+
+    /**
+     * Returns this snapshot, which never changes.
+     */
+    @Override
+    public EduDexSnapshot snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -6,8 +6,11 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.core.GuiSettings;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 
 /**
@@ -109,6 +112,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the filtered person list as it is displayed, where the view at each index is
+     * of the person at the same index of {@link #getFilteredPersonList()}.
+     */
+    ObservableList<PersonSubjectView> getDisplayedPersonList();
+
     /** Returns an unmodifiable view of the filtered subject list */
     ObservableList<Subject> getSubjectList();
 
@@ -135,9 +144,27 @@ public interface Model {
      */
     ObservableList<Person> getSortedPersonList();
 
-    void sortLessonsForEachPerson();
+    /**
+     * Updates the filter of the filtered person list to the persons having a lesson of {@code subject},
+     * ordered by their earliest lesson, and shows only their lessons of {@code subject} in the displayed person list.
+     *
+     * @throws NullPointerException if {@code subject} is null.
+     */
+    void updateFilteredPersonListBySubject(Subject subject);
+
+    /**
+     * Updates the filter of the filtered person list to the persons matching {@code predicate} by name.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
 
-    void sortLessonsForEachPersonBySubject(String subjectKeyword);
+    /**
+     * Updates the filter of the filtered person list to the persons having a lesson on {@code day}.
+     *
+     * @throws NullPointerException if {@code day} is null.
+     */
+    void updateFilteredPersonListByDay(Day day);
 
     void updateSubjectList(Predicate<Subject> predicate);
 
@@ -4,21 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.util.IndexedFilteredList;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.DayMatchesPredicate;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
+import seedu.edudex.model.person.PersonSubjectViewList;
+import seedu.edudex.model.person.SubjectComparator;
+import seedu.edudex.model.person.SubjectMatchesPredicate;
 import seedu.edudex.model.subject.Subject;
 
 /**
@@ -29,11 +34,10 @@ public class ModelManager implements Model {
 
     private final EduDex eduDex;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final IndexedFilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
     private final FilteredList<Subject> subjects;
-    private final ObservableList<Person> displayPersons = FXCollections.observableArrayList();
-    private boolean isSubjectFilteredView = false;
+    private final PersonSubjectViewList displayedPersons;
 
     /**
      * Initializes a ModelManager with the given eduDex and userPrefs.
@@ -45,8 +49,9 @@ public class ModelManager implements Model {
 
         this.eduDex = new EduDex(eduDex);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.filteredPersons = new FilteredList<>(this.eduDex.getPersonList());
+        this.filteredPersons = new IndexedFilteredList<>(this.eduDex.getPersonList());
         this.sortedPersons = new SortedList<>(filteredPersons);
+        this.displayedPersons = new PersonSubjectViewList(sortedPersons);
 
         subjects = new FilteredList<>(this.eduDex.getSubjectList());
     }
@@ -187,14 +192,19 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return isSubjectFilteredView ? displayPersons : sortedPersons;
+        return sortedPersons;
+    }
+
+    @Override
+    public ObservableList<PersonSubjectView> getDisplayedPersonList() {
+        return displayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        displayedPersons.setSubject(null);
         filteredPersons.setPredicate(predicate);
-        isSubjectFilteredView = false;
     }
 
     /**
@@ -206,8 +216,8 @@ public class ModelManager implements Model {
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        displayedPersons.setSubject(null);
         sortedPersons.setComparator(comparator);
-        isSubjectFilteredView = false;
     }
 
     /**
@@ -222,65 +232,49 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Sorts the lessons of each {@code Person} currently in the filtered person list.
+     * Filters the person list to the persons having a lesson of {@code subject}, ordered as in
+     * {@link SubjectComparator}, and shows only their lessons of {@code subject}.
      * <p>
-     * Lessons are ordered first by the numeric value of their day (Monday → Sunday),
-     * and then by their start time within each day. This ensures that every person's
-     * lesson schedule is consistently displayed in chronological order.
-     * </p>
+     * The persons are looked up in the subject index of EduDex instead of testing every person. Each person is
+     * displayed as a {@link PersonSubjectView}, which wraps the person without copying them. The views are kept up to
+     * date as persons are added, edited or removed, until the person list is filtered or sorted again.
      *
-     * <p>This operation mutates each {@code Person}'s internal lesson list by replacing
-     * it with a sorted copy, but does not alter the overall list of persons.</p>
+     * @param subject The subject whose lessons are shown.
      */
     @Override
-    public void sortLessonsForEachPerson() {
-        filteredPersons.forEach(person -> {
-            person.setLessons(person.getLessons().stream()
-                    .sorted(Comparator
-                            .comparing((Lesson l) -> l.getDay().getNumericValue())
-                            .thenComparing(l -> l.getStartTime().getTime()))
-                    .toList());
-        });
+    public void updateFilteredPersonListBySubject(Subject subject) {
+        requireNonNull(subject);
+        displayedPersons.setSubject(null);
+        filteredPersons.setMatches(eduDex.getPersonsWithSubject(subject),
+                new SubjectMatchesPredicate(subject.getSubjectAsString()));
+        sortedPersons.setComparator(new SubjectComparator());
+        displayedPersons.setSubject(subject);
     }
 
-
     /**
-     * Filters and sorts lessons for each {@code Person} in the filtered list,
-     * keeping only lessons that match the specified subject (case-insensitive).
-     * <p>
-     * Matching lessons are sorted by day (Monday → Sunday) and then by start time.
-     * Persons without any matching lessons are excluded from the result.
-     * </p>
+     * Filters the person list to the persons matching {@code predicate} by name, which are looked up in the name
+     * index of EduDex instead of testing every person.
      *
-     * <p>This operation creates deep copies of matching persons and stores them in
-     * {@code displayPersons}, which becomes the active view returned by {@link #getFilteredPersonList()}.</p>
+     * @param predicate The keywords the name words of the persons start with.
+     */
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        displayedPersons.setSubject(null);
+        filteredPersons.setMatches(eduDex.findPersonsWithNameWordStartingWith(predicate.getKeywords()), predicate);
+    }
+
+    /**
+     * Filters the person list to the persons having a lesson on {@code day}, which are looked up in the day index of
+     * EduDex instead of testing every person.
      *
-     * @param subjectKeyword The subject name to filter lessons by.
+     * @param day The day of the lessons.
      */
     @Override
-    public void sortLessonsForEachPersonBySubject(String subjectKeyword) {
-        requireNonNull(subjectKeyword);
-
-        isSubjectFilteredView = true;
-        Subject targetSubject = new Subject(subjectKeyword);
-
-        List<Person> filteredCopies = filteredPersons.stream()
-                .map(original -> {
-                    Person copy = original.getCopyOfPerson();
-                    List<Lesson> filteredSortedLessons = original.getLessons().stream()
-                            .filter(lesson -> lesson.getSubject().isSameSubject(targetSubject))
-                            .sorted(Comparator
-                                    .comparing((Lesson l) -> l.getDay().getNumericValue())
-                                    .thenComparing(l -> l.getStartTime().getTime()))
-                            .collect(Collectors.toCollection(ArrayList::new));
-                    copy.setLessons(filteredSortedLessons);
-                    return copy;
-                })
-                .filter(p -> !p.getLessons().isEmpty())
-                .toList();
-
-        displayPersons.clear();
-        displayPersons.addAll(filteredCopies);
+    public void updateFilteredPersonListByDay(Day day) {
+        requireNonNull(day);
+        displayedPersons.setSubject(null);
+        filteredPersons.setMatches(eduDex.getPersonsWithLessonsOn(day), new DayMatchesPredicate(day));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package seedu.edudex.model;
 
 import javafx.collections.ObservableList;
+import seedu.edudex.commons.util.PersistentList;
 import seedu.edudex.model.person.Person;
 
 /**
@@ -20,5 +21,18 @@ public interface ReadOnlyEduDex {
      */
     ObservableList<seedu.edudex.model.subject.Subject> getSubjectList();
 
+    /**
+     * Returns a counter that changes whenever the persons or subjects lists change.
+     * Two equal versions of the same EduDex mean its data has not been modified in between.
+     */
+    long getVersion();
+
+    /**
+     * Returns a read-only copy of the data as it is now, which is not affected by later changes to the data.
+     */
+    default EduDexSnapshot snapshot() {
+        return new EduDexSnapshot(PersistentList.copyOf(getPersonList()), PersistentList.copyOf(getSubjectList()),
+                getVersion());
+    }
 
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.edudex.commons.core.DataFileFormat;
 import seedu.edudex.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path eduDexFilePath = Paths.get("data" , "edudex.json");
+    private DataFileFormat eduDexFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setEduDexFilePath(newUserPrefs.getEduDexFilePath());
+        setEduDexFileFormat(newUserPrefs.getEduDexFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +59,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.eduDexFilePath = eduDexFilePath;
     }
 
+    public DataFileFormat getEduDexFileFormat() {
+        return eduDexFileFormat;
+    }
+
+    public void setEduDexFileFormat(DataFileFormat eduDexFileFormat) {
+        requireNonNull(eduDexFileFormat);
+        this.eduDexFileFormat = eduDexFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +81,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && eduDexFilePath.equals(otherUserPrefs.eduDexFilePath);
+                && eduDexFilePath.equals(otherUserPrefs.eduDexFilePath)
+                && eduDexFileFormat == otherUserPrefs.eduDexFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, eduDexFilePath);
+        return Objects.hash(guiSettings, eduDexFilePath, eduDexFileFormat);
     }
 
     @Override
@@ -82,6 +95,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + eduDexFilePath);
+        sb.append("\nLocal data file format : " + eduDexFileFormat);
         return sb.toString();
     }
 
@@ -1,10 +1,16 @@
 package seedu.edudex.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+
 /**
  * Represents a Day in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
+ * <p>
+ * There is exactly one {@code Day} instance per day of the week, obtained through {@link #of(String)} or
+ * {@link #of(DayOfWeek)}, so days can be compared by reference and lessons share their {@code Day}.
  */
 public class Day {
     public static final String MESSAGE_CONSTRAINTS =
@@ -12,16 +18,46 @@ public class Day {
     public static final String[] VALID_DAYS =
         {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"
     };
+
+    // canonical instances, indexed by DayOfWeek#ordinal()
+    private static final Day[] DAYS = new Day[VALID_DAYS.length];
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            DAYS[dayOfWeek.ordinal()] = new Day(dayOfWeek, VALID_DAYS[dayOfWeek.ordinal()]);
+        }
+    }
+
+    private final DayOfWeek dayOfWeek;
     private final String day;
 
+    private Day(DayOfWeek dayOfWeek, String day) {
+        this.dayOfWeek = dayOfWeek;
+        this.day = day;
+    }
+
     /**
-     * Constructs a {@code Day}.
+     * Returns the {@code Day} named by {@code day}, ignoring case.
      *
      * @param day A valid day.
      */
-    public Day(String day) {
+    public static Day of(String day) {
+        requireNonNull(day);
         checkArgument(isValidDay(day), MESSAGE_CONSTRAINTS);
-        this.day = normalizeDayString(day);
+        for (Day candidate : DAYS) {
+            if (candidate.day.equalsIgnoreCase(day)) {
+                return candidate;
+            }
+        }
+        throw new AssertionError("A valid day should match one of the canonical days");
+    }
+
+    /**
+     * Returns the {@code Day} representing {@code dayOfWeek}.
+     */
+    public static Day of(DayOfWeek dayOfWeek) {
+        requireNonNull(dayOfWeek);
+        return DAYS[dayOfWeek.ordinal()];
     }
 
     /**
@@ -39,19 +75,14 @@ public class Day {
     }
 
     /**
-     * Returns numeric value of a valid day for comparison
+     * Returns numeric value of a valid day for comparison, from 1 (Monday) to 7 (Sunday).
      */
     public int getNumericValue() {
-        switch (day.toLowerCase()) {
-        case "monday": return 1;
-        case "tuesday": return 2;
-        case "wednesday": return 3;
-        case "thursday": return 4;
-        case "friday": return 5;
-        case "saturday": return 6;
-        case "sunday": return 7;
-        default: return 8; // for invalid or unrecognized values
-        }
+        return dayOfWeek.getValue();
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
     }
 
     public String getDay() {
@@ -65,35 +96,18 @@ public class Day {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Day // instanceof handles nulls
-                && day.equals(((Day) other).day)); // state check
+        return other == this; // days are interned, so equal days are the same instance
     }
 
     @Override
     public int hashCode() {
-        return day.hashCode();
-    }
-
-    /**
-     * Given an input string, capitalizes the first letter
-     */
-    private static String capitalize(String input) {
-        return input.substring(0, 1).toUpperCase() + input.substring(1).toLowerCase();
-    }
-
-    /**
-     * @param input case-insensitive string representing a day of the week
-     * @return formatted string representing a day of the week
-     */
-    private static String normalizeDayString(String input) {
-        return capitalize(input.toLowerCase());
+        return dayOfWeek.hashCode();
     }
 
     /**
-     * Makes a copy of this Day, and returns a new Day object with the same attributes.
+     * Returns this Day, as days are immutable and shared.
      */
     public Day getCopyOfDay() {
-        return new Day(day);
+        return this;
     }
 }
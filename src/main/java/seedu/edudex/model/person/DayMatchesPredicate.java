@@ -18,6 +18,10 @@ public class DayMatchesPredicate implements Predicate<Person> {
         this.day = day;
     }
 
+    public Day getDay() {
+        return day;
+    }
+
     /**
      * Tests whether the given {@code Person} has any lessons scheduled on the specified day.
      *
@@ -31,7 +35,7 @@ public class DayMatchesPredicate implements Predicate<Person> {
         }
 
         return person.getLessons().stream()
-                .anyMatch(lesson -> lesson.getDay().toString().equalsIgnoreCase(day.toString()));
+                .anyMatch(lesson -> lesson.getDay() == day);
     }
 
     /**
@@ -2,6 +2,7 @@ package seedu.edudex.model.person;
 
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 import seedu.edudex.model.subject.Subject;
@@ -14,12 +15,28 @@ public class Lesson {
     public static final String MESSAGE_CONSTRAINTS =
             "Start time should be before end time.";
     public static final String MESSAGE_CONFLICTING_LESSON = "This lesson conflicts with an existing lesson.";
+    public static final long NANOS_PER_DAY = 24L * 60 * 60 * 1_000_000_000;
+
+    /**
+     * Orders lessons by day (Monday to Sunday), then by start time.
+     * Lessons starting together are ordered by end time and then by subject, so equal sets of lessons are always
+     * in the same order.
+     */
+    public static final Comparator<Lesson> CHRONOLOGICAL_ORDER = Comparator.comparingLong(Lesson::getStartNanoOfWeek)
+            .thenComparingLong(Lesson::getEndNanoOfWeek)
+            .thenComparing(lesson -> lesson.getSubject().getSubjectAsString());
+
     private final Subject subject;
     private final Day day;
     private final Time startTime;
     private final Time endTime;
     private final String value;
 
+    // Start and end as nanoseconds since Monday 00:00, so that ordering and overlap checks are plain long
+    // comparisons that keep the seconds and fractions of a second a time may have
+    private final long startNanoOfWeek;
+    private final long endNanoOfWeek;
+
     /**
      * Constructs a {@code Subject}.
      *
@@ -33,6 +50,8 @@ public class Lesson {
         checkArgument(isValidStartEndTime(startTime, endTime), MESSAGE_CONSTRAINTS);
         this.startTime = startTime;
         this.endTime = endTime;
+        this.startNanoOfWeek = toNanoOfWeek(day, startTime);
+        this.endNanoOfWeek = toNanoOfWeek(day, endTime);
 
         value = this.toString();
     }
@@ -53,6 +72,14 @@ public class Lesson {
         return endTime;
     }
 
+    public long getStartNanoOfWeek() {
+        return startNanoOfWeek;
+    }
+
+    public long getEndNanoOfWeek() {
+        return endNanoOfWeek;
+    }
+
     /**
      * Returns true if startTime is before endTime.
      *
@@ -63,6 +90,13 @@ public class Lesson {
         return startTime.getTime().isBefore(endTime.getTime());
     }
 
+    /**
+     * Returns the number of nanoseconds from Monday 00:00 to {@code time} on {@code day}.
+     */
+    private static long toNanoOfWeek(Day day, Time time) {
+        return (day.getNumericValue() - 1) * NANOS_PER_DAY + time.getTime().toNanoOfDay();
+    }
+
     @Override
     public String toString() {
         return String.format("[Subject: " + subject.toString()
@@ -107,14 +141,8 @@ public class Lesson {
      * @return true if there is a conflict, false otherwise.
      */
     public boolean conflictsWith(Lesson otherLesson) {
-        if (!this.day.equals(otherLesson.day)) {
-            return false; // Different days, no conflict
-        }
-
-        // Check if time intervals overlap
-        boolean isOverlapping = this.startTime.getTime().isBefore(otherLesson.endTime.getTime())
-                && otherLesson.startTime.getTime().isBefore(this.endTime.getTime());
-
-        return isOverlapping; // return existing lesson if conflict exists, else null
+        // Lessons do not cross midnight, so lessons on different days never overlap in the week
+        return this.startNanoOfWeek < otherLesson.endNanoOfWeek
+                && otherLesson.startNanoOfWeek < this.endNanoOfWeek;
     }
 }
@@ -0,0 +1,81 @@
+package seedu.edudex.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from an attribute of a lesson (e.g. its subject) to the persons having lessons with that attribute.
+ * For every attribute value, the index also counts how many of each person's lessons have that value,
+ * so that a person is only dropped from a value once their last such lesson is removed.
+ * Values that no indexed lesson has are dropped from the index.
+ * <p>
+ * The index is not backed by the persons' lesson lists; callers must {@link #add(Person)} a person when it
+ * joins the group and {@link #remove(Person)} it, with the same lessons, when it leaves.
+ *
+ * @param <K> type of the lesson attribute used as the key
+ */
+public class LessonAttributeIndex<K> {
+
+    private final Function<Lesson, K> keyExtractor;
+    private final Map<K, Map<Person, Integer>> lessonCountsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index keyed by the lesson attribute returned by {@code keyExtractor}.
+     */
+    public LessonAttributeIndex(Function<Lesson, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes all lessons of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            K key = keyExtractor.apply(lesson);
+            lessonCountsByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(person, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes all lessons of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            K key = keyExtractor.apply(lesson);
+            Map<Person, Integer> lessonCounts = lessonCountsByKey.get(key);
+            if (lessonCounts == null || !lessonCounts.containsKey(person)) {
+                continue;
+            }
+            lessonCounts.computeIfPresent(person, (p, count) -> count == 1 ? null : count - 1);
+            if (lessonCounts.isEmpty()) {
+                lessonCountsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons having at least one lesson with attribute {@code key},
+     * in the order they were indexed. The view is only valid until the index is next changed.
+     */
+    public Set<Person> getPersons(K key) {
+        requireNonNull(key);
+        Map<Person, Integer> lessonCounts = lessonCountsByKey.get(key);
+        return lessonCounts == null ? Collections.emptySet() : Collections.unmodifiableSet(lessonCounts.keySet());
+    }
+
+    /**
+     * Returns the number of attribute values that at least one indexed lesson has.
+     */
+    int getKeyCount() {
+        return lessonCountsByKey.size();
+    }
+}
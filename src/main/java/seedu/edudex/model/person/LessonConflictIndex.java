@@ -0,0 +1,148 @@
+package seedu.edudex.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * An index of every lesson held by a group of persons, used to find lessons that clash in time.
+ * <p>
+ * Lessons are bucketed by {@link Day} and, within a day, kept in a {@code TreeMap} ordered by start time.
+ * Each day also tracks the durations of its lessons so that a query only needs to scan lessons starting
+ * within one maximum lesson duration before the queried lesson, i.e. O(log n + k) rather than visiting
+ * every lesson of every person.
+ * <p>
+ * The index is not backed by the persons' lesson lists; callers must {@link #add(Person)} a person when it
+ * joins the group and {@link #remove(Person)} it, with the same lessons, when it leaves.
+ */
+public class LessonConflictIndex {
+
+    private final Map<DayOfWeek, DaySchedule> schedules = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Indexes all lessons of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            schedules.computeIfAbsent(lesson.getDay().getDayOfWeek(), day -> new DaySchedule()).add(person, lesson);
+        }
+    }
+
+    /**
+     * Removes all lessons of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            DaySchedule schedule = schedules.get(lesson.getDay().getDayOfWeek());
+            if (schedule != null) {
+                schedule.remove(person, lesson);
+            }
+        }
+    }
+
+    /**
+     * Finds a person, other than {@code personToExclude}, who has a lesson that overlaps {@code lesson}.
+     * A lesson identical to {@code lesson} is not considered a conflict, as several students may attend
+     * the same lesson. If several persons conflict, the one whose lesson starts earliest is returned.
+     *
+     * @return Person with conflicting lesson, or null if none found.
+     */
+    public Person findPersonWithConflict(Lesson lesson, Person personToExclude) {
+        requireNonNull(lesson);
+        DaySchedule schedule = schedules.get(lesson.getDay().getDayOfWeek());
+        if (schedule == null) {
+            return null;
+        }
+        return schedule.findPersonWithConflict(lesson, personToExclude);
+    }
+
+    /**
+     * The lessons held on a single day, ordered by start time.
+     */
+    private static class DaySchedule {
+        private final NavigableMap<Long, List<Entry>> entriesByStart = new TreeMap<>();
+        // multiset of lesson durations, so the longest one can be found after removals
+        private final NavigableMap<Long, Integer> durationCounts = new TreeMap<>();
+
+        void add(Person person, Lesson lesson) {
+            Entry entry = new Entry(person, lesson);
+            entriesByStart.computeIfAbsent(entry.start, start -> new ArrayList<>()).add(entry);
+            durationCounts.merge(entry.end - entry.start, 1, Integer::sum);
+        }
+
+        void remove(Person person, Lesson lesson) {
+            Entry entry = new Entry(person, lesson);
+            List<Entry> entries = entriesByStart.get(entry.start);
+            if (entries == null || !entries.remove(entry)) {
+                return;
+            }
+            if (entries.isEmpty()) {
+                entriesByStart.remove(entry.start);
+            }
+            durationCounts.computeIfPresent(entry.end - entry.start,
+                    (duration, count) -> count == 1 ? null : count - 1);
+        }
+
+        Person findPersonWithConflict(Lesson lesson, Person personToExclude) {
+            if (entriesByStart.isEmpty()) {
+                return null;
+            }
+            long start = lesson.getStartNanoOfWeek();
+            long end = lesson.getEndNanoOfWeek();
+            // any lesson starting at or before this point has already ended by the time the queried lesson starts
+            long earliestOverlappingStart = start - durationCounts.lastKey();
+
+            for (List<Entry> entries : entriesByStart.subMap(earliestOverlappingStart, false, end, false).values()) {
+                for (Entry entry : entries) {
+                    if (entry.end <= start || entry.person.equals(personToExclude)) {
+                        continue;
+                    }
+                    if (entry.lesson.equals(lesson)) {
+                        continue; // another person can have the same lesson - same day,time - not a conflict
+                    }
+                    return entry.person;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A lesson together with the person who has it.
+     */
+    private static class Entry {
+        private final Person person;
+        private final Lesson lesson;
+        private final long start;
+        private final long end;
+
+        Entry(Person person, Lesson lesson) {
+            this.person = person;
+            this.lesson = lesson;
+            this.start = lesson.getStartNanoOfWeek();
+            this.end = lesson.getEndNanoOfWeek();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Entry // instanceof handles nulls
+                    && person.equals(((Entry) other).person)
+                    && lesson.equals(((Entry) other).lesson)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, lesson);
+        }
+    }
+}
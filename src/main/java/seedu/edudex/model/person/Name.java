@@ -3,6 +3,11 @@ package seedu.edudex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.Locale;
+
+import seedu.edudex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +25,12 @@ public class Name {
 
     public final String fullName;
 
+    /** Case-folded form of {@code fullName}, used as the identity key of a person. */
+    private final String caseFoldedName;
+
+    /** Space-separated words of {@code caseFoldedName}, used to search persons by name. */
+    private final List<String> caseFoldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,13 +40,15 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        caseFoldedName = name.toLowerCase(Locale.ROOT);
+        caseFoldedWords = List.of(caseFoldedName.split(" +"));
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
 
@@ -44,11 +57,26 @@ public class Name {
         return fullName;
     }
 
+    /**
+     * Returns the case-folded form of this name.
+     * Two names match case-insensitively iff their case-folded forms are equal.
+     */
+    public String getCaseFoldedName() {
+        return caseFoldedName;
+    }
+
+    /**
+     * Returns the words of the case-folded form of this name, in order.
+     */
+    public List<String> getCaseFoldedWords() {
+        return caseFoldedWords;
+    }
+
     /**
      * Returns true iff the two Name objects have matching string content (case-insensitive).
      */
     public boolean matchesCaseInsensitive(Name otherName) {
-        return this.fullName.equalsIgnoreCase(otherName.fullName);
+        return this.caseFoldedName.equals(otherName.caseFoldedName);
     }
 
     @Override
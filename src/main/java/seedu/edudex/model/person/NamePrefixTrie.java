@@ -0,0 +1,119 @@
+package seedu.edudex.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trie over the case-folded words of persons' names, used to find the persons having a name word that starts with
+ * a given prefix.
+ * <p>
+ * Each person is stored at the node ending each word of their name. Finding the persons for a prefix walks down the
+ * prefix and then collects the persons stored below it, so a lookup takes time proportional to the length of the
+ * prefix and the number of matching words rather than to the number of persons.
+ */
+public class NamePrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code person} under every word of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getCaseFoldedWords()) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+            }
+            node.persons.merge(person, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under every word of their name, discarding nodes that are no longer needed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getCaseFoldedWords()) {
+            List<Node> path = new ArrayList<>(word.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.children.get(word.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                continue;
+            }
+
+            node.persons.computeIfPresent(person, (p, count) -> count == 1 ? null : count - 1);
+            for (int i = word.length(); i > 0 && path.get(i).isEmpty(); i--) {
+                path.get(i - 1).children.remove(word.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.persons.clear();
+    }
+
+    /**
+     * Returns the persons having a name word that starts with any of {@code prefixes}, ignoring case.
+     */
+    public Set<Person> findPersonsWithWordStartingWith(List<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Person> matches = new LinkedHashSet<>();
+        for (String prefix : prefixes) {
+            Node node = find(prefix.trim().toLowerCase(Locale.ROOT));
+            if (node != null) {
+                collectPersons(node, matches);
+            }
+        }
+        return matches;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collectPersons(Node start, Set<Person> matches) {
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(start);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            matches.addAll(node.persons.keySet());
+            node.children.values().forEach(toVisit::push);
+        }
+    }
+
+    /**
+     * A node of the trie, reached by the characters on the path from the root.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // persons with a name word ending at this node, with the number of such words in their name
+        private final Map<Person, Integer> persons = new LinkedHashMap<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && persons.isEmpty();
+        }
+    }
+}
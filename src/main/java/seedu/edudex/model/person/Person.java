@@ -1,8 +1,10 @@
 package seedu.edudex.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -20,6 +22,9 @@ import seedu.edudex.model.tag.Tag;
  */
 public class Person {
 
+    /** The sort key of a person without lessons, which comes after that of every person with lessons. */
+    public static final long NO_LESSONS_SORT_KEY = Long.MAX_VALUE;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,9 +32,12 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
-    private List<Lesson> lessons;
+    // unmodifiable, in Lesson.CHRONOLOGICAL_ORDER
+    private final List<Lesson> lessons;
+    // cached, so sorting persons never goes through their lessons
+    private final long earliestLessonStartNanoOfWeek;
 
     /**
      * Constructs a new {@code Person} with no lessons.
@@ -48,6 +56,7 @@ public class Person {
     /**
      * Constructs a new {@code Person} with the specified lessons.
      * Every field must be present and not null.
+     * The lessons are kept in {@link Lesson#CHRONOLOGICAL_ORDER}, whatever order they are given in.
      *
      * @param name The name of the person.
      * @param phone The phone number of the person.
@@ -63,8 +72,25 @@ public class Person {
         this.phone = phone;
         this.school = school;
         this.address = address;
-        this.tags.addAll(tags);
-        this.lessons = new ArrayList<>(lessons); // defensive copy
+        this.tags = new HashSet<>(tags);
+        Lesson[] sortedLessons = lessons.toArray(new Lesson[0]); // defensive copy
+        Arrays.sort(sortedLessons, Lesson.CHRONOLOGICAL_ORDER);
+        this.lessons = List.of(sortedLessons);
+        this.earliestLessonStartNanoOfWeek = findEarliestLessonStartNanoOfWeek(this.lessons);
+    }
+
+    /**
+     * Constructs a copy of {@code person} with {@code sortedLessons}, which must already be in
+     * {@link Lesson#CHRONOLOGICAL_ORDER} and must not be modified afterwards.
+     */
+    private Person(Person person, List<Lesson> sortedLessons) {
+        this.name = person.name;
+        this.phone = person.phone;
+        this.school = person.school;
+        this.address = person.address;
+        this.tags = person.tags; // never modified after construction, so it can be shared
+        this.lessons = Collections.unmodifiableList(sortedLessons);
+        this.earliestLessonStartNanoOfWeek = findEarliestLessonStartNanoOfWeek(sortedLessons);
     }
 
     public Name getName() {
@@ -83,18 +109,82 @@ public class Person {
         return address;
     }
 
-    public void setLessons(List<Lesson> lessons) {
-        this.lessons = lessons;
-    }
-
+    /**
+     * Returns an unmodifiable list of this person's lessons, ordered by day and then by start time.
+     */
     public List<Lesson> getLessons() {
         return lessons;
     }
 
+    /**
+     * Returns a copy of this person with {@code lessons} in place of this person's lessons.
+     */
+    public Person withLessons(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        return new Person(name, phone, school, address, tags, lessons);
+    }
+
+    /**
+     * Returns a copy of this person with {@code lesson} added to this person's lessons.
+     */
+    public Person withAddedLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        int insertionIndex = Collections.binarySearch(lessons, lesson, Lesson.CHRONOLOGICAL_ORDER);
+        if (insertionIndex < 0) {
+            insertionIndex = -insertionIndex - 1;
+        }
+        List<Lesson> newLessons = new ArrayList<>(lessons.size() + 1);
+        newLessons.addAll(lessons);
+        newLessons.add(insertionIndex, lesson);
+        return new Person(this, newLessons);
+    }
+
+    /**
+     * Returns a copy of this person without the lesson at {@code lessonIndex} of {@link #getLessons()}.
+     *
+     * @throws IndexOutOfBoundsException if this person has no lesson at {@code lessonIndex}.
+     */
+    public Person withoutLesson(Index lessonIndex) {
+        requireNonNull(lessonIndex);
+        List<Lesson> newLessons = new ArrayList<>(lessons);
+        newLessons.remove(lessonIndex.getZeroBased());
+        return new Person(this, newLessons);
+    }
+
+    /**
+     * Returns a copy of this person with the lesson at {@code lessonIndex} of {@link #getLessons()} replaced by
+     * {@code editedLesson}, which takes its place in the order of this person's lessons.
+     *
+     * @throws IndexOutOfBoundsException if this person has no lesson at {@code lessonIndex}.
+     */
+    public Person withEditedLesson(Index lessonIndex, Lesson editedLesson) {
+        requireAllNonNull(lessonIndex, editedLesson);
+        return withoutLesson(lessonIndex).withAddedLesson(editedLesson);
+    }
+
+    /**
+     * Returns the nanosecond of the week at which this person's earliest lesson starts,
+     * or {@link #NO_LESSONS_SORT_KEY} if this person has no lessons.
+     */
+    public long getEarliestLessonStartNanoOfWeek() {
+        return earliestLessonStartNanoOfWeek;
+    }
+
+    private static long findEarliestLessonStartNanoOfWeek(List<Lesson> sortedLessons) {
+        return sortedLessons.isEmpty() ? NO_LESSONS_SORT_KEY : sortedLessons.get(0).getStartNanoOfWeek();
+    }
+
     /**
      * Returns a string representation of all lessons, in a numbered list.
      */
     public String getLessonsAsString() {
+        return formatLessons(lessons);
+    }
+
+    /**
+     * Returns {@code lessons} as a numbered list.
+     */
+    static String formatLessons(List<Lesson> lessons) {
         if (lessons.isEmpty()) {
             return "No lessons scheduled.";
         }
@@ -118,13 +208,6 @@ public class Person {
                 .toList();
     }
 
-    /**
-     * Adds a lesson to the person's list of lessons.
-     */
-    public void addLesson(Lesson lesson) {
-        this.lessons.add(lesson);
-    }
-
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
@@ -155,11 +238,17 @@ public class Person {
      * @return The conflicting lesson if there is a conflict, null otherwise.
      */
     public Lesson hasLessonConflict(Lesson otherLesson, Index index) {
-        for (int i = 0; i < lessons.size(); i++) {
+        // only lessons on the same day can overlap, and those are contiguous in the sorted lessons
+        long dayStartNanoOfWeek = otherLesson.getStartNanoOfWeek()
+                - otherLesson.getStartNanoOfWeek() % Lesson.NANOS_PER_DAY;
+        for (int i = findFirstLessonStartingFrom(dayStartNanoOfWeek); i < lessons.size(); i++) {
+            Lesson existingLesson = lessons.get(i);
+            if (existingLesson.getStartNanoOfWeek() >= otherLesson.getEndNanoOfWeek()) {
+                break; // this and all later lessons start after the other lesson ends
+            }
             if (index != null && i == index.getZeroBased()) {
                 continue; // skip checking against the lesson being edited
             }
-            Lesson existingLesson = lessons.get(i);
             if (existingLesson.conflictsWith(otherLesson)) {
                 return existingLesson; // return the conflicting existing lesson
             }
@@ -167,6 +256,24 @@ public class Person {
         return null; // no conflict found
     }
 
+    /**
+     * Returns the index of the first lesson starting at or after {@code nanoOfWeek},
+     * or the number of lessons if there is none.
+     */
+    private int findFirstLessonStartingFrom(long nanoOfWeek) {
+        int low = 0;
+        int high = lessons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lessons.get(middle).getStartNanoOfWeek() < nanoOfWeek) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -208,13 +315,4 @@ public class Person {
                 .add("lessons", lessons)
                 .toString();
     }
-
-    /**
-     * Makes a copy of this Person, and returns a new Person object with the same attributes.
-     */
-    public Person getCopyOfPerson() {
-        return new Person(name, phone, school, address,
-                new HashSet<>(tags), new ArrayList<>(lessons));
-        // defensive copying
-    }
 }
@@ -0,0 +1,149 @@
+package seedu.edudex.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import seedu.edudex.commons.core.index.Index;
+import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * How a {@code Person} is displayed: the person together with the lessons of theirs that are shown, which are
+ * either all of their lessons or only those of one subject.
+ * <p>
+ * The view reads the shown lessons through from the person instead of copying them. Lesson indexes given by the
+ * user refer to {@link #getLessons()}, and must be turned into indexes in the person's own lessons with
+ * {@link #toPersonLessonIndex(Index)} before editing the person.
+ */
+public final class PersonSubjectView {
+
+    private final Person person;
+    private final Subject subject;
+    // indexes in the person's lessons of the lessons shown, in increasing order, or null if all are shown
+    private final int[] shownLessonIndexes;
+    private final List<Lesson> shownLessons;
+
+    /**
+     * Constructs a view of {@code person} showing all of the person's lessons.
+     */
+    public PersonSubjectView(Person person) {
+        requireNonNull(person);
+        this.person = person;
+        this.subject = null;
+        this.shownLessonIndexes = null;
+        this.shownLessons = person.getLessons();
+    }
+
+    /**
+     * Constructs a view of {@code person} showing only the person's lessons of {@code subject}.
+     */
+    public PersonSubjectView(Person person, Subject subject) {
+        requireNonNull(person);
+        requireNonNull(subject);
+        this.person = person;
+        this.subject = subject;
+
+        List<Lesson> allLessons = person.getLessons();
+        int[] matchingIndexes = new int[allLessons.size()];
+        int matchCount = 0;
+        for (int i = 0; i < allLessons.size(); i++) {
+            if (allLessons.get(i).getSubject().isSameSubject(subject)) {
+                matchingIndexes[matchCount++] = i;
+            }
+        }
+        this.shownLessonIndexes = matchCount == matchingIndexes.length
+                ? matchingIndexes
+                : Arrays.copyOf(matchingIndexes, matchCount);
+        this.shownLessons = new ShownLessons();
+    }
+
+    /**
+     * Returns the person shown, with all of their lessons.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the subject whose lessons are shown, or null if all lessons are shown.
+     */
+    public Subject getSubject() {
+        return subject;
+    }
+
+    /**
+     * Returns an unmodifiable list of the shown lessons, ordered by day and then by start time.
+     */
+    public List<Lesson> getLessons() {
+        return shownLessons;
+    }
+
+    /**
+     * Returns a string representation of the shown lessons, in a numbered list.
+     */
+    public String getLessonsAsString() {
+        return Person.formatLessons(shownLessons);
+    }
+
+    /**
+     * Returns the index in the person's lessons of the shown lesson at {@code shownLessonIndex}.
+     *
+     * @throws IndexOutOfBoundsException if no lesson is shown at {@code shownLessonIndex}.
+     */
+    public Index toPersonLessonIndex(Index shownLessonIndex) {
+        requireNonNull(shownLessonIndex);
+        int zeroBasedIndex = Objects.checkIndex(shownLessonIndex.getZeroBased(), shownLessons.size());
+        return shownLessonIndexes == null
+                ? shownLessonIndex
+                : Index.fromZeroBased(shownLessonIndexes[zeroBasedIndex]);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSubjectView)) {
+            return false;
+        }
+
+        PersonSubjectView otherView = (PersonSubjectView) other;
+        return person.equals(otherView.person)
+                && Objects.equals(subject, otherView.subject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("subject", subject)
+                .toString();
+    }
+
+    /**
+     * The lessons of the subject, read through from all of the person's lessons.
+     */
+    private class ShownLessons extends AbstractList<Lesson> implements RandomAccess {
+        @Override
+        public Lesson get(int index) {
+            return person.getLessons().get(shownLessonIndexes[index]);
+        }
+
+        @Override
+        public int size() {
+            return shownLessonIndexes.length;
+        }
+    }
+}
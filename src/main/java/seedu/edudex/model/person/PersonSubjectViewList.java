@@ -0,0 +1,124 @@
+package seedu.edudex.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Wraps an {@code ObservableList} of persons, showing each person as a {@link PersonSubjectView} of the subject
+ * set with {@link #setSubject(Subject)}, or of all of their lessons while no subject is set. The view at each
+ * index is of the person at the same index of the wrapped list.
+ * <p>
+ * The views are made once per person and kept in step with the wrapped list: each change to the wrapped list
+ * only makes views of the persons it adds, and is passed on as the same change to this list.
+ */
+public class PersonSubjectViewList extends TransformationList<PersonSubjectView, Person> {
+
+    private final List<PersonSubjectView> views = new ArrayList<>();
+    private Subject subject;
+
+    /**
+     * Creates a {@code PersonSubjectViewList} of {@code source}, showing all lessons of its persons.
+     */
+    public PersonSubjectViewList(ObservableList<? extends Person> source) {
+        super(source);
+        for (Person person : source) {
+            views.add(new PersonSubjectView(person));
+        }
+    }
+
+    /**
+     * Returns the subject whose lessons are shown, or null if all lessons are shown.
+     */
+    public Subject getSubject() {
+        return subject;
+    }
+
+    /**
+     * Shows only the lessons of {@code subject} for every person, or all lessons if {@code subject} is null.
+     */
+    public void setSubject(Subject subject) {
+        if (Objects.equals(this.subject, subject)) {
+            return;
+        }
+        this.subject = subject;
+        if (views.isEmpty()) {
+            return;
+        }
+
+        List<PersonSubjectView> oldViews = new ArrayList<>(views);
+        for (int i = 0; i < views.size(); i++) {
+            views.set(i, toView(getSource().get(i)));
+        }
+        beginChange();
+        nextReplace(0, views.size(), oldViews);
+        endChange();
+    }
+
+    private PersonSubjectView toView(Person person) {
+        return subject == null ? new PersonSubjectView(person) : new PersonSubjectView(person, subject);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                List<PersonSubjectView> permutedViews = new ArrayList<>(views.subList(from, to));
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                    views.set(change.getPermutation(i), permutedViews.get(i - from));
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    views.set(i, toView(change.getList().get(i)));
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    List<PersonSubjectView> removedViews = views.subList(from, from + change.getRemovedSize());
+                    nextRemove(from, new ArrayList<>(removedViews));
+                    removedViews.clear();
+                }
+                if (change.wasAdded()) {
+                    List<PersonSubjectView> addedViews = new ArrayList<>(to - from);
+                    for (Person person : change.getAddedSubList()) {
+                        addedViews.add(toView(person));
+                    }
+                    views.addAll(from, addedViews);
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public PersonSubjectView get(int index) {
+        return views.get(index);
+    }
+
+    @Override
+    public int size() {
+        return views.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return Objects.checkIndex(index, size());
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return Objects.checkIndex(index, size());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.edudex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's school in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchool(String)}
@@ -17,6 +19,7 @@ public class School {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{Punct}&&[^/]][\\p{Alnum} \\p{Punct}&&[^/]]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -37,7 +40,7 @@ public class School {
      * @param test String School to test validity
      */
     public static boolean isValidSchool(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
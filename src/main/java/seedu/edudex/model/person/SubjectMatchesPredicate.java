@@ -34,7 +34,7 @@ public class SubjectMatchesPredicate implements Predicate<Person> {
             return false;
         }
 
-        Subject targetSubject = new Subject(subjectName);
+        Subject targetSubject = Subject.of(subjectName);
 
         // Strictly match only lessons whose Subject is the same (not substring)
         return person.getLessons().stream()
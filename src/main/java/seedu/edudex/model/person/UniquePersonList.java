@@ -3,11 +3,20 @@ package seedu.edudex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.edudex.commons.util.CollectionUtil;
+import seedu.edudex.commons.util.PersistentList;
+import seedu.edudex.commons.util.PersistentObservableList;
 import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +27,35 @@ import seedu.edudex.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * An index from each person's case-folded name to the person is maintained alongside the list, so that identity
+ * checks take constant time instead of a scan of the whole list. The index also gives each person a sequence number,
+ * which increases along the list, so that a person is found in the list by a binary search in logarithmic time.
+ * A {@link NamePrefixTrie} over the words of the persons' names is maintained in the same way to search persons by
+ * name.
+ *
+ * The persons are kept in a {@link PersistentObservableList}, so the contents of the list can be kept as a
+ * snapshot in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Person> internalList = new PersistentObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, IndexEntry> identityIndex = new HashMap<>();
+    private final NamePrefixTrie nameTrie = new NamePrefixTrie();
+    // sequence number of the next person added at the end of the list
+    private long nextSequenceNumber;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
     }
 
     /**
@@ -46,6 +68,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(identityKeyOf(toAdd), new IndexEntry(toAdd, nextSequenceNumber++));
+        nameTrie.add(toAdd);
     }
 
     /**
@@ -56,16 +80,17 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
+        IndexEntry entry = findEntry(target);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        internalList.set(indexOf(entry), editedPerson);
+        identityIndex.remove(identityKeyOf(target));
+        // the edited person keeps the sequence number of its place in the list
+        identityIndex.put(identityKeyOf(editedPerson), new IndexEntry(editedPerson, entry.sequenceNumber));
+        nameTrie.remove(target);
+        nameTrie.add(editedPerson);
     }
 
     /**
@@ -74,27 +99,89 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        IndexEntry entry = findEntry(toRemove);
+        internalList.remove(indexOf(entry));
+        identityIndex.remove(identityKeyOf(toRemove));
+        nameTrie.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(replacement.snapshot());
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nextSequenceNumber = replacement.nextSequenceNumber;
+        nameTrie.clear();
+        replacement.internalList.forEach(nameTrie::add);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicate in {@code persons}, if there is any.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Person> duplicates = CollectionUtil.findDuplicates(persons, UniquePersonList::identityKeyOf);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which must be a {@link #snapshot()} of a
+     * {@code UniquePersonList}, without copying or checking them. The indexes of the persons are rebuilt in linear
+     * time.
+     */
+    public void restore(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    private void rebuildIndexes() {
+        identityIndex.clear();
+        nameTrie.clear();
+        for (Person person : internalList) {
+            identityIndex.put(identityKeyOf(person), new IndexEntry(person, nextSequenceNumber++));
+            nameTrie.add(person);
+        }
+    }
+
+    /**
+     * Returns the index entry of {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no person equal to {@code person} in the list.
+     */
+    private IndexEntry findEntry(Person person) {
+        IndexEntry entry = identityIndex.get(identityKeyOf(person));
+        if (entry == null || !entry.person.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the index in the list of the person of {@code entry}, in logarithmic time.
+     */
+    private int indexOf(IndexEntry entry) {
+        return internalList.snapshot().indexOfKey(
+                person -> identityIndex.get(identityKeyOf(person)).sequenceNumber, entry.sequenceNumber);
+    }
+
+    /**
+     * Returns the persons in the list having a name word that starts with any of {@code prefixes}, ignoring case,
+     * in their order in the list.
+     */
+    public Set<Person> findPersonsWithNameWordStartingWith(List<String> prefixes) {
+        requireNonNull(prefixes);
+        List<Person> matches = new ArrayList<>(nameTrie.findPersonsWithWordStartingWith(prefixes));
+        matches.sort(Comparator.comparingLong(person -> identityIndex.get(identityKeyOf(person)).sequenceNumber));
+        return new LinkedHashSet<>(matches);
     }
 
     /**
@@ -104,6 +191,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons currently in the list, which are not affected by later changes to the list.
+     */
+    public PersistentList<Person> snapshot() {
+        return internalList.snapshot();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +229,23 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the key under which {@code person} is stored in the identity index.
+     * Persons with the same key are the same person as defined by {@link Person#isSamePerson(Person)}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static String identityKeyOf(Person person) {
+        return person.getName().getCaseFoldedName();
+    }
+
+    /**
+     * A person in the identity index, with the sequence number of its place in the list.
+     */
+    private static class IndexEntry {
+        private final Person person;
+        private final long sequenceNumber;
+
+        IndexEntry(Person person, long sequenceNumber) {
+            this.person = person;
+            this.sequenceNumber = sequenceNumber;
         }
-        return true;
     }
 }
@@ -1,11 +1,37 @@
 package seedu.edudex.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.edudex.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every person in {@code duplicates} as a duplicate.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the offending persons, or an empty list if they were not reported.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,6 +3,11 @@ package seedu.edudex.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.edudex.commons.util.ValidationUtil;
 import seedu.edudex.logic.Messages;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.model.Model;
@@ -10,6 +15,10 @@ import seedu.edudex.model.Model;
 /**
  * Represents a Subject in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubjectName(String)}
+ * <p>
+ * Subjects are interned: {@link #of(String)} returns the same instance for every spelling of a subject name,
+ * so every lesson of a subject shares one {@code Subject} and most comparisons end at a reference check.
+ * Identity is still defined by the subject name alone, so it does not depend on the order subjects are created in.
  */
 public class Subject {
     public static final String MESSAGE_CONSTRAINTS =
@@ -21,17 +30,24 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    // canonical subjects keyed by their lower-cased name
+    private static final Map<String, Subject> SUBJECTS_BY_NAME = new ConcurrentHashMap<>();
+
     private final String subjectName;
 
+    private Subject(String subjectName) {
+        this.subjectName = subjectName;
+    }
+
     /**
-     * Constructs a {@code Subject}.
+     * Returns the canonical {@code Subject} named {@code name}, ignoring case.
      *
      * @param name A valid subject.
      */
-    public Subject(String name) {
+    public static Subject of(String name) {
         requireNonNull(name);
         checkArgument(isValidSubjectName(name), MESSAGE_CONSTRAINTS);
-        this.subjectName = name.toLowerCase();
+        return SUBJECTS_BY_NAME.computeIfAbsent(name.toLowerCase(Locale.ROOT), Subject::new);
     }
 
     /**
@@ -41,7 +57,7 @@ public class Subject {
      */
     public static boolean isValidSubjectName(String name) {
         requireNonNull(name);
-        return name.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(name);
     }
 
     /**
@@ -52,7 +68,7 @@ public class Subject {
     public static String capitalizeWords(String str) {
         requireNonNull(str);
 
-        String[] words = str.trim().toLowerCase().split("\\s+");
+        String[] words = str.trim().toLowerCase(Locale.ROOT).split("\\s+");
         StringBuilder capitalized = new StringBuilder();
 
         for (String word : words) {
@@ -87,8 +103,9 @@ public class Subject {
             return true;
         }
 
+        // subject names are stored lower-cased, so this ignores case
         return otherSubject != null
-                && otherSubject.subjectName.equalsIgnoreCase(subjectName);
+                && otherSubject.subjectName.equals(subjectName);
     }
 
     @Override
@@ -111,10 +128,10 @@ public class Subject {
     }
 
     /**
-     * Makes a copy of this Subject, and return a new Subject object with the same attributes.
+     * Returns this Subject, as subjects are immutable and shared.
      */
     public Subject getCopyOfSubject() {
-        return new Subject(subjectName);
+        return this;
     }
 
     /**
@@ -8,6 +8,9 @@ import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.edudex.commons.util.CollectionUtil;
+import seedu.edudex.commons.util.PersistentList;
+import seedu.edudex.commons.util.PersistentObservableList;
 import seedu.edudex.model.subject.exceptions.DuplicateSubjectException;
 import seedu.edudex.model.subject.exceptions.SubjectNotFoundException;
 
@@ -18,13 +21,16 @@ import seedu.edudex.model.subject.exceptions.SubjectNotFoundException;
  * updated is unique in terms of identity in the UniqueSubjectList. However, the removal of a subject uses
  * Subject#equals(Object) so as to ensure that the subject with exactly the same fields will be removed.
  *
+ * The subjects are kept in a {@link PersistentObservableList}, so the contents of the list can be kept as a
+ * snapshot in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Subject#isSameSubject(Subject)
  */
 public class UniqueSubjectList implements Iterable<Subject> {
 
-    private final ObservableList<Subject> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Subject> internalList = new PersistentObservableList<>();
     private final ObservableList<Subject> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -81,22 +87,34 @@ public class UniqueSubjectList implements Iterable<Subject> {
 
     public void setSubjects(seedu.edudex.model.subject.UniqueSubjectList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(replacement.snapshot());
     }
 
     /**
      * Replaces the contents of this list with {@code subjects}.
      * {@code subjects} must not contain duplicate subjects.
+     *
+     * @throws DuplicateSubjectException listing every duplicate in {@code subjects}, if there is any.
      */
     public void setSubjects(List<Subject> subjects) {
         requireAllNonNull(subjects);
-        if (!subjectsAreUnique(subjects)) {
-            throw new DuplicateSubjectException();
+        List<Subject> duplicates = CollectionUtil.findDuplicates(subjects, Subject::getSubjectAsString);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateSubjectException(duplicates);
         }
 
         internalList.setAll(subjects);
     }
 
+    /**
+     * Replaces the contents of this list with {@code subjects}, which must be a {@link #snapshot()} of a
+     * {@code UniqueSubjectList}, in constant time, without copying or checking them.
+     */
+    public void restore(PersistentList<Subject> subjects) {
+        requireNonNull(subjects);
+        internalList.setAll(subjects);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -104,6 +122,13 @@ public class UniqueSubjectList implements Iterable<Subject> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the subjects currently in the list, which are not affected by later changes to the list.
+     */
+    public PersistentList<Subject> snapshot() {
+        return internalList.snapshot();
+    }
+
     @Override
     public Iterator<Subject> iterator() {
         return internalList.iterator();
@@ -134,19 +159,4 @@ public class UniqueSubjectList implements Iterable<Subject> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code subjects} contains only unique subjects.
-     */
-    private boolean subjectsAreUnique(List<Subject> subjects) {
-        for (int i = 0; i < subjects.size() - 1; i++) {
-            for (int j = i + 1; j < subjects.size(); j++) {
-                if (subjects.get(i).isSameSubject(subjects.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
-
@@ -1,11 +1,37 @@
 package seedu.edudex.model.subject.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.edudex.model.subject.Subject;
+
 /**
- * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
- * identity).
+ * Signals that the operation will result in duplicate Subjects (Subjects are considered duplicates if they have the
+ * same name).
  */
 public class DuplicateSubjectException extends RuntimeException {
+    private final List<Subject> duplicates;
+
     public DuplicateSubjectException() {
         super("Operation would result in duplicate subjects");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every subject in {@code duplicates} as a duplicate.
+     */
+    public DuplicateSubjectException(List<Subject> duplicates) {
+        super("Operation would result in duplicate subjects: " + duplicates.stream()
+                .map(Subject::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the offending subjects, or an empty list if they were not reported.
+     */
+    public List<Subject> getDuplicates() {
+        return duplicates;
     }
 }
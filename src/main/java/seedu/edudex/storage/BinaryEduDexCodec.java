@@ -0,0 +1,286 @@
+package seedu.edudex.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Address;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Name;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.Phone;
+import seedu.edudex.model.person.School;
+import seedu.edudex.model.person.Time;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.model.tag.Tag;
+
+/**
+ * Encodes an EduDex into the binary data file format, and decodes it back into model objects.
+ * <p>
+ * The format starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a subject dictionary: every
+ * subject of the subject list, in order, then every other subject taught in a lesson. Then come the persons,
+ * each as a record prefixed with its length in bytes. Strings are written as their UTF-8 length and bytes.
+ * A lesson is its subject's index in the dictionary and a single int packing the day with the start and end
+ * minutes of the day. Lessons with times that are not whole minutes set {@link #EXACT_TIMES_FLAG} and are
+ * followed by both times as nanoseconds of the day, so every EduDex is encoded losslessly.
+ */
+class BinaryEduDexCodec {
+
+    /** The bytes "EDXB", identifying a binary EduDex data file. */
+    public static final int MAGIC = 0x45445842;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_EDUDEX = "Data file is not a binary EduDex data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary EduDex data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary EduDex data file is corrupted.";
+
+    static final int EXACT_TIMES_FLAG = 1 << 30;
+    private static final int DAY_SHIFT = 22;
+    private static final int START_SHIFT = 11;
+    private static final int MINUTE_MASK = (1 << START_SHIFT) - 1;
+    private static final int DAY_MASK = 0x7;
+
+    private BinaryEduDexCodec() {}
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     */
+    public static void encode(ReadOnlyEduDex source, OutputStream out) throws IOException {
+        Map<Subject, Integer> subjectIndexes = new LinkedHashMap<>();
+        for (Subject subject : source.getSubjectList()) {
+            subjectIndexes.putIfAbsent(subject, subjectIndexes.size());
+        }
+        int listedSubjectCount = subjectIndexes.size();
+        for (Person person : source.getPersonList()) {
+            for (Lesson lesson : person.getLessons()) {
+                subjectIndexes.putIfAbsent(lesson.getSubject(), subjectIndexes.size());
+            }
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeInt(subjectIndexes.size());
+        dataOut.writeInt(listedSubjectCount);
+        for (Subject subject : subjectIndexes.keySet()) {
+            writeString(dataOut, subject.getSubjectAsString());
+        }
+
+        // each record is encoded into a reused buffer first, to find the length it is prefixed with
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        dataOut.writeInt(source.getPersonList().size());
+        for (Person person : source.getPersonList()) {
+            recordBytes.reset();
+            encodePerson(person, subjectIndexes, record);
+            dataOut.writeInt(recordBytes.size());
+            recordBytes.writeTo(dataOut);
+        }
+        dataOut.flush();
+    }
+
+    private static void encodePerson(Person person, Map<Subject, Integer> subjectIndexes, DataOutputStream record)
+            throws IOException {
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getPhone().value);
+        writeString(record, person.getSchool().value);
+        writeString(record, person.getAddress().value);
+        record.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(record, tag.tagName);
+        }
+        record.writeInt(person.getLessons().size());
+        for (Lesson lesson : person.getLessons()) {
+            record.writeInt(subjectIndexes.get(lesson.getSubject()));
+            LocalTime start = lesson.getStartTime().getTime();
+            LocalTime end = lesson.getEndTime().getTime();
+            int packedTimes = ((lesson.getDay().getNumericValue() - 1) << DAY_SHIFT)
+                    | (toMinuteOfDay(start) << START_SHIFT) | toMinuteOfDay(end);
+            if (isWholeMinute(start) && isWholeMinute(end)) {
+                record.writeInt(packedTimes);
+            } else {
+                record.writeInt(packedTimes | EXACT_TIMES_FLAG);
+                record.writeLong(start.toNanoOfDay());
+                record.writeLong(end.toNanoOfDay());
+            }
+        }
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static boolean isWholeMinute(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes the binary data in {@code buffer}, from its position to its limit, into the model's {@code EduDex}.
+     *
+     * @throws IOException if the data is not in the binary format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated, or any duplicate persons or
+     *     subjects in the data.
+     */
+    public static EduDex decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_EDUDEX);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            EduDex eduDex = new EduDex();
+            int subjectCount = readCount(buffer);
+            int listedSubjectCount = readCount(buffer);
+            if (listedSubjectCount > subjectCount) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            Subject[] subjects = new Subject[subjectCount];
+            for (int i = 0; i < subjectCount; i++) {
+                subjects[i] = toSubject(readString(buffer));
+                if (i < listedSubjectCount) {
+                    if (eduDex.hasSubject(subjects[i])) {
+                        throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_SUBJECT);
+                    }
+                    eduDex.addSubject(subjects[i]);
+                }
+            }
+
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                Person person = decodePerson(buffer, subjects);
+                if (buffer.position() != recordEnd) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                if (eduDex.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON);
+                }
+                eduDex.addPerson(person);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return eduDex;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static Person decodePerson(ByteBuffer buffer, Subject[] subjects)
+            throws IOException, IllegalValueException {
+        String name = readString(buffer);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(buffer);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String school = readString(buffer);
+        if (!School.isValidSchool(school)) {
+            throw new IllegalValueException(School.MESSAGE_CONSTRAINTS);
+        }
+        String address = readString(buffer);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readCount(buffer);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(buffer);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int lessonCount = readCount(buffer);
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            lessons.add(decodeLesson(buffer, subjects));
+        }
+        return new Person(new Name(name), new Phone(phone), new School(school), new Address(address), tags, lessons);
+    }
+
+    private static Lesson decodeLesson(ByteBuffer buffer, Subject[] subjects)
+            throws IOException, IllegalValueException {
+        Subject subject = subjects[buffer.getInt()];
+        int packedTimes = buffer.getInt();
+        int dayIndex = (packedTimes >>> DAY_SHIFT) & DAY_MASK;
+        if (dayIndex >= DayOfWeek.values().length) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        Day day = Day.of(DayOfWeek.of(dayIndex + 1));
+
+        LocalTime start;
+        LocalTime end;
+        try {
+            if ((packedTimes & EXACT_TIMES_FLAG) == 0) {
+                start = LocalTime.ofSecondOfDay(((packedTimes >>> START_SHIFT) & MINUTE_MASK) * 60L);
+                end = LocalTime.ofSecondOfDay((packedTimes & MINUTE_MASK) * 60L);
+            } else {
+                start = LocalTime.ofNanoOfDay(buffer.getLong());
+                end = LocalTime.ofNanoOfDay(buffer.getLong());
+            }
+        } catch (DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+
+        Time startTime = new Time(start.toString());
+        Time endTime = new Time(end.toString());
+        if (!Lesson.isValidStartEndTime(startTime, endTime)) {
+            throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+        }
+        return new Lesson(subject, day, startTime, endTime);
+    }
+
+    private static Subject toSubject(String name) throws IllegalValueException {
+        if (!Subject.isValidSubjectName(name)) {
+            throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
+        }
+        return Subject.of(name);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = readCount(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
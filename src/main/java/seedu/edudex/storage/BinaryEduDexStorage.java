@@ -0,0 +1,151 @@
+package seedu.edudex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * A class to access EduDex data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file is read into memory in one piece and decoded straight into model objects.
+ * Each save writes the whole EduDex in the format of {@link BinaryEduDexCodec}, atomically replacing the file and
+ * backing up the previous one. Until the binary file is first saved, data is imported from the json data file
+ * it was converted from, if there is one, and the data can be exported back to a json data file at any time.
+ */
+public class BinaryEduDexStorage implements EduDexStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEduDexStorage.class);
+
+    private Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * Creates a {@code BinaryEduDexStorage} for the data at {@code filePath}, which imports the json data file
+     * at {@code jsonFilePath} while there is no data at {@code filePath}.
+     */
+    public BinaryEduDexStorage(Path filePath, Path jsonFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(jsonFilePath);
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the location of the binary data file converted from the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getEduDexFilePath() {
+        return filePath;
+    }
+
+    public Path getJsonFilePath() {
+        return jsonFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
+        return readEduDex(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEduDex()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(this.filePath) && !jsonFilePath.equals(filePath)) {
+                return importFromJson();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(FileUtil.readFromFile(filePath, BinaryEduDexCodec::decode));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private Optional<ReadOnlyEduDex> importFromJson() throws DataLoadingException {
+        Optional<ReadOnlyEduDex> importedEduDex = new JsonEduDexStorage(jsonFilePath).readEduDex();
+        if (importedEduDex.isPresent()) {
+            logger.info("Imported EduDex data from json file " + jsonFilePath);
+        }
+        return importedEduDex;
+    }
+
+    /**
+     * Writes the EduDex data in this storage to the json data file at {@code targetFilePath}.
+     *
+     * @throws DataLoadingException if there is no data in this storage, or it could not be read.
+     * @throws IOException if there was any problem writing to the json data file.
+     */
+    public void exportToJson(Path targetFilePath) throws DataLoadingException, IOException {
+        requireNonNull(targetFilePath);
+        ReadOnlyEduDex eduDex = readEduDex().orElseThrow(() ->
+                new DataLoadingException(new IOException("No EduDex data to export at " + filePath)));
+        new JsonEduDexStorage(targetFilePath).saveEduDex(eduDex);
+        logger.info("Exported EduDex data to json file " + targetFilePath);
+    }
+
+    /**
+     * Converts the EduDex data in this storage back to the json data file it was converted from, for when the json
+     * format is chosen again. The binary data file is then moved to its backup, so that the data is imported from
+     * the json data file again if the binary format is chosen later.
+     *
+     * @throws DataLoadingException if there is no data in this storage, or it could not be read.
+     * @throws IOException if there was any problem writing the json data file or moving the binary data file.
+     */
+    public void migrateToJson() throws DataLoadingException, IOException {
+        exportToJson(jsonFilePath);
+        FileUtil.rotateBackups(filePath, JsonEduDexStorage.DEFAULT_BACKUP_COUNT);
+        Files.delete(filePath);
+        logger.info("Moved binary data file " + filePath + " to its backup");
+    }
+
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex) throws IOException {
+        saveEduDex(eduDex, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEduDex(ReadOnlyEduDex)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        requireNonNull(eduDex);
+        requireNonNull(filePath);
+
+        FileUtil.rotateBackups(filePath, JsonEduDexStorage.DEFAULT_BACKUP_COUNT);
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryEduDexCodec.encode(eduDex, out), true);
+    }
+
+}
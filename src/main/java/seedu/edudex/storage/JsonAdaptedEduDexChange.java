@@ -0,0 +1,111 @@
+package seedu.edudex.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Jackson-friendly record of a single change to the persons or subjects list of an EduDex.
+ * The change replaces the {@code removed} elements starting at index {@code from} with the added elements,
+ * so that replaying the records in order over a saved snapshot reproduces the lists.
+ * Each record carries the change log id of the snapshot it applies to.
+ */
+class JsonAdaptedEduDexChange {
+
+    /** Change log id of a snapshot that no change log records apply to. */
+    public static final long NO_CHANGE_LOG = 0;
+
+    public static final String PERSONS = "persons";
+    public static final String SUBJECTS = "subjects";
+    public static final String MESSAGE_INVALID_LIST = "Change log entry refers to an unknown list: %s";
+    public static final String MESSAGE_OUT_OF_RANGE = "Change log entry does not match the saved data.";
+
+    private final long changeLogId;
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedSubject> subjects = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedEduDexChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedEduDexChange(@JsonProperty("changeLogId") long changeLogId, @JsonProperty("list") String list,
+            @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("subjects") List<JsonAdaptedSubject> subjects) {
+        this.changeLogId = changeLogId;
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (subjects != null) {
+            this.subjects.addAll(subjects);
+        }
+    }
+
+    /**
+     * Returns a change replacing {@code removed} persons starting at {@code from} with {@code added}.
+     */
+    public static JsonAdaptedEduDexChange ofPersons(long changeLogId, int from, int removed,
+            List<? extends Person> added) {
+        return new JsonAdaptedEduDexChange(changeLogId, PERSONS, from, removed,
+                added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns a change replacing {@code removed} subjects starting at {@code from} with {@code added}.
+     */
+    public static JsonAdaptedEduDexChange ofSubjects(long changeLogId, int from, int removed,
+            List<? extends Subject> added) {
+        return new JsonAdaptedEduDexChange(changeLogId, SUBJECTS, from, removed, null,
+                added.stream().map(JsonAdaptedSubject::new).collect(Collectors.toList()));
+    }
+
+    public long getChangeLogId() {
+        return changeLogId;
+    }
+
+    /**
+     * Applies this change to the matching one of {@code persons} and {@code subjects}.
+     *
+     * @throws IllegalValueException if the change does not fit the list it refers to,
+     *     or any data constraints are violated by the added elements.
+     */
+    public void applyTo(List<Person> persons, List<Subject> subjects) throws IllegalValueException {
+        if (PERSONS.equals(list)) {
+            List<Person> addedPersons = new ArrayList<>();
+            for (JsonAdaptedPerson person : this.persons) {
+                addedPersons.add(person.toModelType());
+            }
+            splice(persons, addedPersons);
+        } else if (SUBJECTS.equals(list)) {
+            List<Subject> addedSubjects = new ArrayList<>();
+            for (JsonAdaptedSubject subject : this.subjects) {
+                addedSubjects.add(subject.toModelType());
+            }
+            splice(subjects, addedSubjects);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, list));
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<T> replacedRange = target.subList(from, from + removed);
+        replacedRange.clear();
+        replacedRange.addAll(added);
+    }
+}
@@ -81,8 +81,8 @@ public class JsonAdaptedLesson {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
 
-        Subject modelSubject = new Subject(subject);
-        Day modelDay = new Day(day);
+        Subject modelSubject = Subject.of(subject);
+        Day modelDay = Day.of(day);
         Time modelStartTime = new Time(startTime);
         Time modelEndTime = new Time(endTime);
         return new Lesson(modelSubject, modelDay, modelStartTime, modelEndTime);
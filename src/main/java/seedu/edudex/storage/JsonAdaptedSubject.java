@@ -44,6 +44,6 @@ class JsonAdaptedSubject {
         if (!Subject.isValidSubjectName(subjectName)) {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(subjectName);
+        return Subject.of(subjectName);
     }
 }
@@ -0,0 +1,171 @@
+package seedu.edudex.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * An EduDex snapshot in the json format of {@link JsonSerializableEduDex}, read and written one person or subject
+ * at a time. Neither the whole file nor a json tree of it is ever held in memory: persons read are converted
+ * to the model's {@code Person} in parallel chunks while the rest are read, and each person written goes directly
+ * to the output stream.
+ */
+class JsonEduDexSnapshot {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "EduDex data should be a json object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "The %s of EduDex data should be a json array.";
+    public static final String MESSAGE_MISSING_ELEMENT = "The %s of EduDex data should not contain null.";
+
+    private static final String PERSONS = "persons";
+    private static final String SUBJECTS = "subjects";
+    private static final String CHANGE_LOG_ID = "changeLogId";
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Subject> subjects = new ArrayList<>();
+    private long changeLogId = JsonAdaptedEduDexChange.NO_CHANGE_LOG;
+
+    private JsonEduDexSnapshot() {}
+
+    /**
+     * Reads a snapshot from {@code in}. Unknown fields are ignored.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold json data of the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated by a person or subject.
+     */
+    public static JsonEduDexSnapshot read(InputStream in) throws IOException, IllegalValueException {
+        JsonEduDexSnapshot snapshot = new JsonEduDexSnapshot();
+        ParallelPersonConverter personConverter = new ParallelPersonConverter();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case PERSONS:
+                    readArray(parser, PERSONS, JsonAdaptedPerson.class, personConverter::add);
+                    break;
+                case SUBJECTS:
+                    readArray(parser, SUBJECTS, JsonAdaptedSubject.class,
+                            subject -> snapshot.subjects.add(subject.toModelType()));
+                    break;
+                case CHANGE_LOG_ID:
+                    snapshot.changeLogId = parser.currentToken() == JsonToken.VALUE_NULL
+                            ? JsonAdaptedEduDexChange.NO_CHANGE_LOG
+                            : parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        ParallelPersonConverter.Result convertedPersons = personConverter.finish();
+        convertedPersons.throwFailureIfAny();
+        snapshot.persons.addAll(convertedPersons.getPersons());
+        return snapshot;
+    }
+
+    /**
+     * Reads the elements of the json array at the current token of {@code parser} one at a time, passing each one
+     * to {@code elementHandler} before reading the next. A null array is read as an empty one.
+     */
+    private static <T> void readArray(JsonParser parser, String fieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T element = JsonUtil.readValue(parser, elementClass);
+            if (element == null) {
+                throw new JsonParseException(parser, String.format(MESSAGE_MISSING_ELEMENT, fieldName));
+            }
+            elementHandler.handle(element);
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code out} as the snapshot with change log id {@code changeLogId}.
+     *
+     * @param isCompact whether the output is written on a single line instead of being indented.
+     */
+    public static void write(ReadOnlyEduDex source, long changeLogId, OutputStream out, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS);
+            for (Person person : source.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(SUBJECTS);
+            for (Subject subject : source.getSubjectList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedSubject(subject));
+            }
+            generator.writeEndArray();
+            generator.writeNumberField(CHANGE_LOG_ID, changeLogId);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Handles an element read from a json array.
+     */
+    @FunctionalInterface
+    private interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the id of the change log records that apply on top of this snapshot.
+     */
+    public long getChangeLogId() {
+        return changeLogId;
+    }
+
+    /**
+     * Applies {@code change} to the persons or subjects of this snapshot.
+     *
+     * @throws IllegalValueException if the change does not fit the current lists.
+     */
+    public void applyChange(JsonAdaptedEduDexChange change) throws IllegalValueException {
+        change.applyTo(persons, subjects);
+    }
+
+    /**
+     * Converts this snapshot into the model's {@code EduDex} object.
+     *
+     * @throws IllegalValueException if the snapshot contains duplicate persons or subjects.
+     */
+    public EduDex toModelType() throws IllegalValueException {
+        EduDex eduDex = new EduDex();
+        for (Subject subject : subjects) {
+            if (eduDex.hasSubject(subject)) {
+                throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_SUBJECT);
+            }
+            eduDex.addSubject(subject);
+        }
+
+        JsonSerializableEduDex.setPersons(eduDex, persons);
+        return eduDex;
+    }
+}
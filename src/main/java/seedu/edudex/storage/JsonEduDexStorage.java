@@ -3,34 +3,95 @@ package seedu.edudex.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import javafx.collections.ListChangeListener;
 import seedu.edudex.commons.core.LogsCenter;
 import seedu.edudex.commons.exceptions.DataLoadingException;
 import seedu.edudex.commons.exceptions.IllegalValueException;
 import seedu.edudex.commons.util.FileUtil;
 import seedu.edudex.commons.util.JsonUtil;
 import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
 
 /**
  * A class to access EduDex data stored as a json file on the hard disk.
+ * <p>
+ * The json file holds a full snapshot of the data. After a snapshot of an EduDex is saved, changes made to its
+ * lists are recorded and later saves of the same EduDex only append those changes, one json record per line,
+ * to a change log next to the snapshot. Once the change log grows past {@link #COMPACTION_THRESHOLD} records,
+ * the next save writes a fresh snapshot and deletes the log. Reading replays the change log over the snapshot.
+ * <p>
+ * Snapshots replace the json file atomically, after being forced onto the storage device, so a crash never leaves
+ * a partially written snapshot behind. The previous snapshots are kept as rotated backups next to the json file.
+ * Each snapshot has a fresh change log id, and only the change log records written with that id are replayed,
+ * so a change log left behind by a crash is never applied to the wrong snapshot.
+ * <p>
+ * Snapshots are streamed one person at a time, read from the json file in memory, and can optionally be written
+ * compactly, without indentation.
  */
 public class JsonEduDexStorage implements EduDexStorage {
 
+    /** Maximum number of change log records kept before they are compacted into a new snapshot. */
+    public static final int COMPACTION_THRESHOLD = 100;
+
+    public static final String CHANGE_LOG_SUFFIX = ".changes";
+
+    /** Number of previous snapshots kept as backups by default. */
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonEduDexStorage.class);
 
     private Path filePath;
+    private final int backupCount;
+    private final boolean isCompactOutput;
+
+    // the EduDex whose snapshot was last saved, and where, along with its changes since then
+    private ReadOnlyEduDex trackedEduDex;
+    private Path trackedFilePath;
+    private final List<JsonAdaptedEduDexChange> pendingChanges = new ArrayList<>();
+    private int changeLogSize;
+    private long changeLogId;
+    private final ListChangeListener<Person> personChangeRecorder = this::recordPersonChanges;
+    private final ListChangeListener<Subject> subjectChangeRecorder = this::recordSubjectChanges;
 
     public JsonEduDexStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT, false);
+    }
+
+    /**
+     * Creates a {@code JsonEduDexStorage} for the data at {@code filePath} that keeps {@code backupCount}
+     * previous snapshots as backups.
+     *
+     * @param isCompactOutput whether snapshots are written on a single line instead of being indented.
+     */
+    public JsonEduDexStorage(Path filePath, int backupCount, boolean isCompactOutput) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.isCompactOutput = isCompactOutput;
     }
 
     public Path getEduDexFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the location of the change log kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getChangeLogFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + CHANGE_LOG_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
         return readEduDex(filePath);
@@ -45,20 +106,68 @@ public class JsonEduDexStorage implements EduDexStorage {
     public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEduDex> jsonEduDex = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEduDex.class);
-        if (!jsonEduDex.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonEduDex.get().toModelType());
+            JsonEduDexSnapshot snapshot = FileUtil.readFromFile(filePath,
+                    content -> JsonEduDexSnapshot.read(new ByteBufferBackedInputStream(content)));
+            replayChangeLog(snapshot, getChangeLogFilePath(filePath));
+            return Optional.of(snapshot.toModelType());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Applies the records of the change log at {@code changeLogPath}, if any, to {@code snapshot}.
+     * An unreadable last record is the remains of an interrupted save and is skipped.
+     */
+    private void replayChangeLog(JsonEduDexSnapshot snapshot, Path changeLogPath)
+            throws DataLoadingException, IllegalValueException {
+        if (!FileUtil.isFileExists(changeLogPath)) {
+            return;
+        }
+
+        long snapshotChangeLogId = snapshot.getChangeLogId();
+        List<String> records;
+        try {
+            records = Files.readAllLines(changeLogPath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from change log " + changeLogPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).isBlank()) {
+                continue;
+            }
+            JsonAdaptedEduDexChange change;
+            try {
+                change = JsonUtil.fromJsonString(records.get(i), JsonAdaptedEduDexChange.class);
+            } catch (IOException ioe) {
+                if (i == records.size() - 1) {
+                    logger.warning("Skipping incomplete last record of change log " + changeLogPath);
+                    break;
+                }
+                logger.warning("Error reading from change log " + changeLogPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            if (snapshotChangeLogId == JsonAdaptedEduDexChange.NO_CHANGE_LOG
+                    || change.getChangeLogId() != snapshotChangeLogId) {
+                logger.info("Ignoring change log record written for another snapshot in " + changeLogPath);
+                continue;
+            }
+            snapshot.applyChange(change);
+        }
+    }
+
     @Override
     public void saveEduDex(ReadOnlyEduDex eduDex) throws IOException {
         saveEduDex(eduDex, filePath);
@@ -66,6 +175,7 @@ public class JsonEduDexStorage implements EduDexStorage {
 
     /**
      * Similar to {@link #saveEduDex(ReadOnlyEduDex)}.
+     * Only the changes made since the last save are written if {@code eduDex} was last saved to {@code filePath}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +183,86 @@ public class JsonEduDexStorage implements EduDexStorage {
         requireNonNull(eduDex);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEduDex(eduDex), filePath);
+        boolean isTracked = eduDex == trackedEduDex && filePath.equals(trackedFilePath);
+        if (!isTracked || changeLogSize + pendingChanges.size() > COMPACTION_THRESHOLD) {
+            saveSnapshot(eduDex, filePath);
+        } else if (!pendingChanges.isEmpty()) {
+            appendPendingChanges(filePath);
+        }
+    }
+
+    /**
+     * Writes all data of {@code eduDex} to {@code filePath}, backing up the previous snapshot and discarding its
+     * change log, and starts recording the changes made to {@code eduDex}.
+     */
+    private void saveSnapshot(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        stopTracking();
+
+        long newChangeLogId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        FileUtil.rotateBackups(filePath, backupCount);
+        FileUtil.writeToFileAtomically(filePath,
+                out -> JsonEduDexSnapshot.write(eduDex, newChangeLogId, out, isCompactOutput), true);
+        // records left in the old change log belong to the previous snapshot, and are ignored if this fails
+        Files.deleteIfExists(getChangeLogFilePath(filePath));
+
+        trackedEduDex = eduDex;
+        trackedFilePath = filePath;
+        changeLogId = newChangeLogId;
+        eduDex.getPersonList().addListener(personChangeRecorder);
+        eduDex.getSubjectList().addListener(subjectChangeRecorder);
+    }
+
+    private void appendPendingChanges(Path filePath) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedEduDexChange change : pendingChanges) {
+            records.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+
+        try {
+            FileUtil.appendToFile(getChangeLogFilePath(filePath), records.toString());
+        } catch (IOException ioe) {
+            // the change log may now end with a partial record, so start over from a full snapshot next time
+            stopTracking();
+            throw ioe;
+        }
+        changeLogSize += pendingChanges.size();
+        pendingChanges.clear();
+    }
+
+    private void stopTracking() {
+        if (trackedEduDex != null) {
+            trackedEduDex.getPersonList().removeListener(personChangeRecorder);
+            trackedEduDex.getSubjectList().removeListener(subjectChangeRecorder);
+        }
+        trackedEduDex = null;
+        trackedFilePath = null;
+        pendingChanges.clear();
+        changeLogSize = 0;
+    }
+
+    private void recordPersonChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // record the affected range as rewritten with its current contents
+                pendingChanges.add(JsonAdaptedEduDexChange.ofPersons(changeLogId, change.getFrom(),
+                        change.getTo() - change.getFrom(), change.getList().subList(change.getFrom(), change.getTo())));
+            } else {
+                pendingChanges.add(JsonAdaptedEduDexChange.ofPersons(changeLogId, change.getFrom(),
+                        change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+    }
+
+    private void recordSubjectChanges(ListChangeListener.Change<? extends Subject> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                pendingChanges.add(JsonAdaptedEduDexChange.ofSubjects(changeLogId, change.getFrom(),
+                        change.getTo() - change.getFrom(), change.getList().subList(change.getFrom(), change.getTo())));
+            } else {
+                pendingChanges.add(JsonAdaptedEduDexChange.ofSubjects(changeLogId, change.getFrom(),
+                        change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
     }
 
 }
@@ -12,10 +12,12 @@ import seedu.edudex.commons.exceptions.IllegalValueException;
 import seedu.edudex.model.EduDex;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.subject.Subject;
 
 /**
  * An Immutable EduDex that is serializable to JSON format.
+ * EduDex data files use this format, but are streamed through {@link JsonEduDexSnapshot} when read and written.
  */
 @JsonRootName(value = "edudex")
 class JsonSerializableEduDex {
@@ -25,15 +27,18 @@ class JsonSerializableEduDex {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedSubject> subjects = new ArrayList<>();
+    private final long changeLogId;
 
     /**
      * Constructs a {@code JsonSerializableEduDex} with the given persons.
      */
     @JsonCreator
     public JsonSerializableEduDex(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                  @JsonProperty("subjects") List<JsonAdaptedSubject> subjects) {
+                                  @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
+                                  @JsonProperty("changeLogId") long changeLogId) {
         this.persons.addAll(persons);
         this.subjects.addAll(subjects);
+        this.changeLogId = changeLogId;
     }
 
     /**
@@ -44,10 +49,20 @@ class JsonSerializableEduDex {
     public JsonSerializableEduDex(ReadOnlyEduDex source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         subjects.addAll(source.getSubjectList().stream().map(JsonAdaptedSubject::new).collect(Collectors.toList()));
+        changeLogId = JsonAdaptedEduDexChange.NO_CHANGE_LOG;
+    }
+
+    /**
+     * Returns the id of the change log records that apply on top of this snapshot.
+     */
+    long getChangeLogId() {
+        return changeLogId;
     }
 
     /**
      * Converts this EduDex into the model's {@code EduDex} object.
+     * Persons are converted in parallel, but the error reported is the one a person-by-person conversion would
+     * have run into first.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
@@ -61,14 +76,26 @@ class JsonSerializableEduDex {
             eduDex.addSubject(subject);
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (eduDex.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            eduDex.addPerson(person);
-        }
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.addAll(persons);
+        ParallelPersonConverter.Result converted = converter.finish();
+        // a duplicate among the persons before the first failure would have been found before that failure
+        setPersons(eduDex, converted.getPersons());
+        converted.throwFailureIfAny();
         return eduDex;
     }
 
+    /**
+     * Replaces the persons of {@code eduDex} with {@code persons}, checking for duplicates in linear time.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static void setPersons(EduDex eduDex, List<Person> persons) throws IllegalValueException {
+        try {
+            eduDex.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
 }
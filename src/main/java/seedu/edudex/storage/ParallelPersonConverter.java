@@ -0,0 +1,126 @@
+package seedu.edudex.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on the common fork-join pool.
+ * Persons are converted in chunks of {@link #CHUNK_SIZE}, each submitted as soon as it is filled, so conversion
+ * overlaps with reading the persons that follow. The converted persons are returned in the order they were added,
+ * and the reported failure is always that of the earliest person that could not be converted, as it would be if
+ * the persons were converted one by one.
+ */
+class ParallelPersonConverter {
+
+    public static final int CHUNK_SIZE = 256;
+
+    private final List<ForkJoinTask<ConvertedChunk>> convertedChunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> currentChunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Adds {@code person} to be converted after the persons added before it.
+     */
+    public void add(JsonAdaptedPerson person) {
+        currentChunk.add(person);
+        if (currentChunk.size() == CHUNK_SIZE) {
+            submitCurrentChunk();
+        }
+    }
+
+    /**
+     * Adds {@code persons} to be converted in order, after the persons added before them.
+     */
+    public void addAll(List<JsonAdaptedPerson> persons) {
+        persons.forEach(this::add);
+    }
+
+    private void submitCurrentChunk() {
+        List<JsonAdaptedPerson> chunk = currentChunk;
+        convertedChunks.add(ForkJoinPool.commonPool().submit(() -> ConvertedChunk.convert(chunk)));
+        currentChunk = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    /**
+     * Waits for every person added to be converted, and returns the outcome.
+     */
+    public Result finish() {
+        if (!currentChunk.isEmpty()) {
+            submitCurrentChunk();
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (ForkJoinTask<ConvertedChunk> convertedChunk : convertedChunks) {
+            ConvertedChunk chunk = convertedChunk.join();
+            persons.addAll(chunk.persons);
+            if (chunk.failure != null) {
+                // later chunks only hold persons after the earliest failure
+                return new Result(persons, chunk.failure);
+            }
+        }
+        return new Result(persons, null);
+    }
+
+    /**
+     * The outcome of converting all persons added to a {@code ParallelPersonConverter}.
+     */
+    public static class Result {
+        private final List<Person> persons;
+        private final Exception failure;
+
+        private Result(List<Person> persons, Exception failure) {
+            this.persons = persons;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the converted persons in the order they were added, up to the first one that failed to convert.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Throws the exception of the first person that failed to convert, if any.
+         *
+         * @throws IllegalValueException if there were any data constraints violated by that person.
+         */
+        public void throwFailureIfAny() throws IllegalValueException {
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+
+    /**
+     * The persons of one chunk, converted until the first one that failed.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final Exception failure;
+
+        private ConvertedChunk(List<Person> persons, Exception failure) {
+            this.persons = persons;
+            this.failure = failure;
+        }
+
+        static ConvertedChunk convert(List<JsonAdaptedPerson> chunk) {
+            List<Person> persons = new ArrayList<>(chunk.size());
+            for (JsonAdaptedPerson person : chunk) {
+                try {
+                    persons.add(person.toModelType());
+                } catch (IllegalValueException | RuntimeException e) {
+                    return new ConvertedChunk(persons, e);
+                }
+            }
+            return new ConvertedChunk(persons, null);
+        }
+    }
+}
@@ -29,4 +29,16 @@ public interface Storage extends EduDexStorage, UserPrefsStorage {
     @Override
     void saveEduDex(ReadOnlyEduDex eduDex) throws IOException;
 
+    /**
+     * Waits until all data saved so far has been written to the hard disk.
+     * @throws IOException if the data could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the failure of the latest write of saved data, if it failed and has not been retried successfully since.
+     * Only storages that write after {@link #saveEduDex(ReadOnlyEduDex)} returns can have such a failure.
+     */
+    Optional<IOException> getSaveFailure();
+
 }
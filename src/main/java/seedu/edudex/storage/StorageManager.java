@@ -75,4 +75,15 @@ public class StorageManager implements Storage {
         eduDexStorage.saveEduDex(eduDex, filePath);
     }
 
+    @Override
+    public void flush() {
+        // data is written as soon as it is saved, so there is nothing to wait for
+    }
+
+    @Override
+    public Optional<IOException> getSaveFailure() {
+        // failed writes are thrown by saveEduDex
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,276 @@
+package seedu.edudex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.util.PersistentObservableList;
+import seedu.edudex.commons.util.StringUtil;
+import seedu.edudex.model.EduDexSnapshot;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * A {@code Storage} that saves EduDex data on a single background thread instead of the caller's thread.
+ * <p>
+ * The writer thread never reads the caller's EduDex, which keeps changing while it writes. Instead, the first save
+ * of an EduDex starts a mirror from a {@link ReadOnlyEduDex#snapshot()} of it, and every later change to the EduDex
+ * is queued and applied to the mirror by the writer thread just before it saves the mirror. Saves requested while
+ * a write is already pending are coalesced into that write, which picks up every change queued so far.
+ * <p>
+ * A failed write is reported by {@link #getSaveFailure()} and by {@link #flush()} until a later write succeeds,
+ * and is retried by the next write. User prefs are read and saved synchronously.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "EduDex writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    // changes to the mirror not yet applied by the writer thread, in the order they were made
+    private final Queue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+    private final ListChangeListener<Person> personChangeRecorder = this::recordPersonChanges;
+    private final ListChangeListener<Subject> subjectChangeRecorder = this::recordSubjectChanges;
+
+    private ReadOnlyEduDex source;
+    private volatile IOException lastFailure;
+
+    // only accessed by the writer thread
+    private MirroredEduDex mirror;
+    private boolean hasUnsavedChanges;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage} on a background thread.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ EduDex methods ==============================
+
+    @Override
+    public Path getEduDexFilePath() {
+        return storage.getEduDexFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
+        return storage.readEduDex();
+    }
+
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
+        return storage.readEduDex(filePath);
+    }
+
+    /**
+     * Schedules {@code eduDex} to be saved on the background thread and returns without waiting for it.
+     * A failure to write it is reported by {@link #getSaveFailure()}.
+     */
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex) {
+        requireNonNull(eduDex);
+
+        if (eduDex != source) {
+            startMirroring(eduDex);
+        }
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            writer.execute(this::write);
+        }
+    }
+
+    /**
+     * Saves {@code eduDex} to {@code filePath} on the caller's thread, once all scheduled writes are done.
+     */
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        flush();
+        storage.saveEduDex(eduDex, filePath);
+    }
+
+    /**
+     * Waits until every save scheduled so far has been written, retrying the last write if it failed.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        Future<?> written = writer.submit(this::write);
+        try {
+            written.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+
+        IOException failure = lastFailure;
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    @Override
+    public Optional<IOException> getSaveFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * Takes a snapshot of {@code eduDex} for the writer thread and starts queueing the changes made to it.
+     */
+    private void startMirroring(ReadOnlyEduDex eduDex) {
+        if (source != null) {
+            source.getPersonList().removeListener(personChangeRecorder);
+            source.getSubjectList().removeListener(subjectChangeRecorder);
+        }
+        source = eduDex;
+
+        EduDexSnapshot snapshot = eduDex.snapshot();
+        pendingUpdates.add(() -> mirror = new MirroredEduDex(snapshot));
+        eduDex.getPersonList().addListener(personChangeRecorder);
+        eduDex.getSubjectList().addListener(subjectChangeRecorder);
+    }
+
+    private void recordPersonChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<Person> current = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                pendingUpdates.add(() -> mirror.replace(mirror.persons, from, current.size(), current));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<Person> added = new ArrayList<>(change.getAddedSubList());
+                pendingUpdates.add(() -> mirror.replace(mirror.persons, from, removedSize, added));
+            }
+        }
+    }
+
+    private void recordSubjectChanges(ListChangeListener.Change<? extends Subject> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<Subject> current = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                pendingUpdates.add(() -> mirror.replace(mirror.subjects, from, current.size(), current));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<Subject> added = new ArrayList<>(change.getAddedSubList());
+                pendingUpdates.add(() -> mirror.replace(mirror.subjects, from, removedSize, added));
+            }
+        }
+    }
+
+    /**
+     * Brings the mirror up to date and saves it. Runs on the writer thread.
+     */
+    private void write() {
+        // cleared before the queue is drained, so that a save requested from now on schedules another write
+        isWriteScheduled.set(false);
+
+        Runnable update;
+        while ((update = pendingUpdates.poll()) != null) {
+            update.run();
+            hasUnsavedChanges = true;
+        }
+        if (mirror == null || (!hasUnsavedChanges && lastFailure == null)) {
+            return;
+        }
+
+        try {
+            storage.saveEduDex(mirror);
+            hasUnsavedChanges = false;
+            lastFailure = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(ioe));
+            lastFailure = ioe;
+        }
+    }
+
+    /**
+     * A copy of an EduDex's lists that is only read and modified by the writer thread.
+     * The lists start out sharing structure with the snapshot they are made from, so making them takes constant time
+     * for the snapshot of an {@code EduDex}.
+     */
+    private static class MirroredEduDex implements ReadOnlyEduDex {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Subject> subjects;
+        private final ObservableList<Person> unmodifiablePersons;
+        private final ObservableList<Subject> unmodifiableSubjects;
+        private long version;
+
+        MirroredEduDex(EduDexSnapshot snapshot) {
+            this.persons = new PersistentObservableList<>(snapshot.getPersons());
+            this.subjects = new PersistentObservableList<>(snapshot.getSubjects());
+            unmodifiablePersons = FXCollections.unmodifiableObservableList(this.persons);
+            unmodifiableSubjects = FXCollections.unmodifiableObservableList(this.subjects);
+        }
+
+        /**
+         * Replaces the {@code removedSize} elements of {@code list} starting at {@code from} with {@code added}.
+         */
+        <T> void replace(ObservableList<T> list, int from, int removedSize, List<T> added) {
+            list.remove(from, from + removedSize);
+            list.addAll(from, added);
+            version++;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return unmodifiablePersons;
+        }
+
+        @Override
+        public ObservableList<Subject> getSubjectList() {
+            return unmodifiableSubjects;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -44,11 +45,11 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code PersonSubjectView} and index to display.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(PersonSubjectView view, int displayedIndex) {
         super(FXML);
-        this.person = person;
+        this.person = view.getPerson();
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -57,6 +58,6 @@ public class PersonCard extends UiPart<Region> {
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        subject.setText(person.getLessonsAsString());
+        subject.setText(view.getLessonsAsString());
     }
 }
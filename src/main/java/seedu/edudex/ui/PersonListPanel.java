@@ -8,7 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.edudex.commons.core.LogsCenter;
-import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 
 /**
  * Panel containing the list of persons.
@@ -18,35 +18,35 @@ public class PersonListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(SubjectListPanel.class);
 
     @FXML
-    private ListView<Person> personListView;
+    private ListView<PersonSubjectView> personListView;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<PersonSubjectView> personList) {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code PersonSubjectView} using a {@code PersonCard}.
      */
-    class PersonListViewCell extends ListCell<Person> {
+    class PersonListViewCell extends ListCell<PersonSubjectView> {
         @Override
-        protected void updateItem(Person person, boolean empty) {
-            super.updateItem(person, empty);
+        protected void updateItem(PersonSubjectView view, boolean empty) {
+            super.updateItem(view, empty);
 
-            if (empty || person == null) {
+            if (empty || view == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(view, getIndex() + 1).getRoot());
             }
         }
     }
 
-    public void updateList(ObservableList<Person> newList) {
+    public void updateList(ObservableList<PersonSubjectView> newList) {
         personListView.setItems(newList);
     }
 
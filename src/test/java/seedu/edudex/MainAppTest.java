@@ -0,0 +1,43 @@
+package seedu.edudex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.storage.BinaryEduDexStorage;
+import seedu.edudex.storage.EduDexStorage;
+import seedu.edudex.storage.JsonEduDexStorage;
+
+public class MainAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void initEduDexStorage_formatChangedFromBinaryToJson_binaryDataKept() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setEduDexFilePath(testFolder.resolve("edudex.json"));
+        EduDex original = getTypicalEduDex();
+        new JsonEduDexStorage(userPrefs.getEduDexFilePath()).saveEduDex(original);
+
+        userPrefs.setEduDexFileFormat(DataFileFormat.BINARY);
+        EduDexStorage binaryStorage = MainApp.initEduDexStorage(userPrefs);
+        assertTrue(binaryStorage instanceof BinaryEduDexStorage);
+        original.addPerson(HOON);
+        binaryStorage.saveEduDex(original);
+
+        userPrefs.setEduDexFileFormat(DataFileFormat.JSON);
+        EduDexStorage jsonStorage = MainApp.initEduDexStorage(userPrefs);
+        assertTrue(jsonStorage instanceof JsonEduDexStorage);
+        assertEquals(original, new EduDex(jsonStorage.readEduDex().get()));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.edudex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
@@ -82,6 +83,22 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicates() {
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(List.of("a"), null));
+
+        // no duplicates
+        assertEquals(Collections.emptyList(), CollectionUtil.findDuplicates(Collections.emptyList(), x -> x));
+        assertEquals(Collections.emptyList(), CollectionUtil.findDuplicates(List.of("a", "bb", "ccc"),
+                String::length));
+
+        // every later occurrence of a key is reported, in order
+        assertEquals(List.of("B", "b", "c"), CollectionUtil.findDuplicates(List.of("a", "b", "B", "c", "b", "c"),
+                String::toLowerCase));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
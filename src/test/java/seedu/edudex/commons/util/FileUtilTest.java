@@ -1,13 +1,30 @@
 package seedu.edudex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,105 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void appendToFile_missingOrExistingFile_contentAppended() throws IOException {
+        Path file = testFolder.resolve("append.txt");
+
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void readFromFile_existingFile_contentRead() throws IOException {
+        Path file = testFolder.resolve("read.txt");
+        FileUtil.writeToFile(file, "read content");
+
+        String content = FileUtil.readFromFile(file, buffer -> StandardCharsets.UTF_8.decode(buffer).toString());
+
+        assertEquals("read content", content);
+    }
+
+    @Test
+    public void readFromFile_thenReplacedAtomically_newContentRead() throws IOException {
+        Path file = testFolder.resolve("replaced.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.readFromFile(file, ByteBuffer::remaining);
+
+        // nothing holds the file once it is read, so it can be replaced on any platform
+        FileUtil.writeToFileAtomically(file, "new content", true);
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals("new content",
+                FileUtil.readFromFile(file, buffer -> StandardCharsets.UTF_8.decode(buffer).toString()));
+    }
+
+    @Test
+    public void readFromFile_emptyFile_emptyContent() throws IOException {
+        Path file = testFolder.resolve("empty.txt");
+        FileUtil.createFile(file);
+        int contentSize = FileUtil.readFromFile(file, ByteBuffer::remaining);
+
+        assertEquals(0, contentSize);
+    }
+
+    @Test
+    public void readFromFile_missingFile_throwsIOException() {
+        assertThrows(IOException.class, () ->
+                FileUtil.readFromFile(testFolder.resolve("missing.txt"), ByteBuffer::remaining));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTempFilesLeft() throws IOException {
+        Path file = testFolder.resolve("data").resolve("atomic.txt");
+
+        FileUtil.writeToFileAtomically(file, "old", false);
+        FileUtil.writeToFileAtomically(file, "new", true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws IOException {
+        Path file = testFolder.resolve("shared.txt");
+        FileUtil.writeToFile(file, "old");
+        assumeTrue(Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, "new", true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_newFile_defaultPermissions() throws IOException {
+        Path file = testFolder.resolve("new.txt");
+        Path defaultFile = Files.createFile(testFolder.resolve("default.txt"));
+        assumeTrue(Files.getFileStore(defaultFile).supportsFileAttributeView(PosixFileAttributeView.class));
+
+        FileUtil.writeToFileAtomically(file, "content", false);
+
+        assertEquals(Files.getPosixFilePermissions(defaultFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void rotateBackups_moreVersionsThanBackups_oldestDropped() throws IOException {
+        Path file = testFolder.resolve("rotated.txt");
+
+        for (int version = 1; version <= 4; version++) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFile(file, "version " + version);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
 }
@@ -0,0 +1,110 @@
+package seedu.edudex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<String> STARTS_WITH_A = element -> element.startsWith("a");
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a1", "b1", "a2", "b2");
+    private final IndexedFilteredList<String> list = new IndexedFilteredList<>(source);
+
+    @Test
+    public void constructor_showsAllElements() {
+        assertEquals(source, list);
+    }
+
+    @Test
+    public void setMatches_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.setMatches(null, STARTS_WITH_A));
+        assertThrows(NullPointerException.class, () -> list.setMatches(List.of(), null));
+    }
+
+    @Test
+    public void setPredicate_showsMatchingElementsInSourceOrder() {
+        list.setPredicate(STARTS_WITH_A);
+        assertEquals(List.of("a1", "a2"), list);
+
+        source.add(1, "a3");
+        assertEquals(List.of("a1", "a3", "a2"), list);
+
+        list.setPredicate(null);
+        assertEquals(source, list);
+    }
+
+    @Test
+    public void setMatches_predicateNotTestedOnUnchangedElements() {
+        List<String> tested = new ArrayList<>();
+        list.setMatches(List.of("a2", "a1"), element -> {
+            tested.add(element);
+            return element.startsWith("a");
+        });
+
+        assertEquals(List.of("a2", "a1"), list);
+        assertEquals(List.of(), tested);
+    }
+
+    @Test
+    public void setMatches_sourceChanged_matchesUpdated() {
+        list.setMatches(List.of("a1", "a2"), STARTS_WITH_A);
+
+        // added element that matches -> appended
+        source.add("a3");
+        assertEquals(List.of("a1", "a2", "a3"), list);
+
+        // added element that does not match -> not shown
+        source.add("b3");
+        assertEquals(List.of("a1", "a2", "a3"), list);
+
+        // matching element replaced by a matching element -> keeps its place
+        source.set(source.indexOf("a1"), "a4");
+        assertEquals(List.of("a4", "a2", "a3"), list);
+
+        // matching element replaced by an element that does not match -> removed
+        source.set(source.indexOf("a2"), "b4");
+        assertEquals(List.of("a4", "a3"), list);
+
+        // matching element removed -> removed
+        source.remove("a3");
+        assertEquals(List.of("a4"), list);
+    }
+
+    @Test
+    public void setPredicate_afterSetMatches_showsMatchingElementsInSourceOrder() {
+        list.setMatches(List.of("a2"), STARTS_WITH_A);
+        list.setPredicate(element -> element.startsWith("b"));
+        assertEquals(List.of("b1", "b2"), list);
+
+        source.remove("b1");
+        assertEquals(List.of("b2"), list);
+    }
+
+    @Test
+    public void setMatches_listenersNotified() {
+        List<String> notifiedContents = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            notifiedContents.clear();
+            notifiedContents.addAll(change.getList());
+        });
+
+        list.setMatches(List.of("a1", "a2"), STARTS_WITH_A);
+        assertEquals(List.of("a1", "a2"), notifiedContents);
+
+        source.add("a3");
+        assertEquals(List.of("a1", "a2", "a3"), notifiedContents);
+
+        list.setPredicate(null);
+        assertEquals(source, notifiedContents);
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.edudex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> empty = PersistentList.empty();
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of(), empty);
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.without(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.withReplaced(0, "a"));
+    }
+
+    @Test
+    public void copyOf() {
+        List<Integer> elements = List.of(1, 2, 3, 4, 5, 6, 7);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+
+        assertEquals(elements, list);
+        assertEquals(elements.hashCode(), list.hashCode());
+        assertEquals(3, list.indexOf(4));
+        assertEquals(-1, list.indexOf(8));
+
+        // already persistent -> same list
+        assertSame(list, PersistentList.copyOf(list));
+
+        // empty -> empty list
+        assertSame(PersistentList.empty(), PersistentList.copyOf(List.of()));
+    }
+
+    @Test
+    public void indexOfKey() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(10, 20, 30, 40, 50)).without(1);
+
+        assertEquals(0, list.indexOfKey(element -> element, 10));
+        assertEquals(2, list.indexOfKey(element -> element, 40));
+        assertEquals(3, list.indexOfKey(element -> element, 50));
+
+        // key not in list -> -1
+        assertEquals(-1, list.indexOfKey(element -> element, 20));
+        assertEquals(-1, PersistentList.<Integer>empty().indexOfKey(element -> element, 10));
+    }
+
+    @Test
+    public void withAddedWithReplacedWithout_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), original.withAdded("d"));
+        assertEquals(List.of("x", "a", "b", "c"), original.withAdded(0, "x"));
+        assertEquals(List.of("a", "x", "c"), original.withReplaced(1, "x"));
+        assertEquals(List.of("a", "c"), original.without(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void withAdded_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(-1, "b"));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.withAdded(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.withReplaced(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.without(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        // earlier versions are unaffected by later changes
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.edudex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<String> list = new PersistentObservableList<>();
+
+    @Test
+    public void constructor_persistentList_sharedWithoutCopying() {
+        PersistentList<String> elements = PersistentList.copyOf(List.of("a", "b"));
+        PersistentObservableList<String> observableList = new PersistentObservableList<>(elements);
+
+        assertEquals(List.of("a", "b"), observableList);
+        assertSame(elements, observableList.snapshot());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        list.addAll(List.of("a", "b", "c"));
+        PersistentList<String> snapshot = list.snapshot();
+
+        list.add(1, "x");
+        list.set(0, "y");
+        list.remove("c");
+
+        assertEquals(List.of("y", "x", "b"), list);
+        assertEquals(1, list.indexOf("x"));
+        assertEquals(List.of("a", "b", "c"), snapshot);
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        list.addAll(List.of("a", "b"));
+        PersistentList<String> snapshot = list.snapshot();
+
+        list.setAll(List.of("c"));
+
+        assertEquals(List.of("c"), list);
+        assertEquals(List.of("a", "b"), snapshot);
+    }
+
+    @Test
+    public void modify_listenersNotified() {
+        List<String> notifiedContents = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            notifiedContents.clear();
+            notifiedContents.addAll(change.getList());
+        });
+
+        list.add("a");
+        assertEquals(List.of("a"), notifiedContents);
+
+        list.setAll(List.of("b", "c"));
+        assertEquals(List.of("b", "c"), notifiedContents);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.edudex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "a", "Z", "0", "9", "abc", "a b", " a", "a ",
+            "a  b", "12", "123", "1234567", "12 3", "+65123", "a_b", "a-b", "\t", "a\tb", "a\nb", "\u00e9", "caf\u00e9",
+            "\u0661\u0662\u0663", "\uff26ull", "Alex Yeoh 2", "R@chel", "\ud83d\ude00", "a\ud83d\ude00");
+
+    @Test
+    public void isAlphanumericWithSpaces_samples_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWithSpaces(sample),
+                    sample);
+        }
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Alex Yeoh"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" Alex"));
+    }
+
+    @Test
+    public void isAlphanumeric_samples_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(sample), sample);
+        }
+        assertTrue(ValidationUtil.isAlphanumeric("friends"));
+        assertFalse(ValidationUtil.isAlphanumeric("best friends"));
+    }
+
+    @Test
+    public void isDigits_samples_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\d{3,}"), ValidationUtil.isDigits(sample, 3), sample);
+        }
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertFalse(ValidationUtil.isDigits("12", 3));
+    }
+
+    @Test
+    public void validators_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWithSpaces(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+    }
+}
@@ -1,18 +1,27 @@
 package seedu.edudex.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.edudex.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.edudex.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.edudex.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.edudex.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_ROLLBACK;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.AMY;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +29,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.edudex.logic.commands.AddCommand;
 import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.ExitCommand;
+import seedu.edudex.logic.commands.FindCommand;
+import seedu.edudex.logic.commands.HelpCommand;
 import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 import seedu.edudex.model.Model;
@@ -28,10 +41,13 @@ import seedu.edudex.model.ModelManager;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.UserPrefs;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
 import seedu.edudex.storage.JsonEduDexStorage;
 import seedu.edudex.storage.JsonUserPrefsStorage;
 import seedu.edudex.storage.StorageManager;
+import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
+import seedu.edudex.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -70,6 +86,153 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandsNotChangingData_saveSkipped() throws Exception {
+        int[] saveCount = {0};
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eduDexStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + SCHOOL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_noFileWrites() throws Exception {
+        int[] writeCount = {0};
+        Path eduDexFilePath = temporaryFolder.resolve("eduDex.json");
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(eduDexFilePath) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                writeCount[0]++;
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        model.setEduDex(getTypicalEduDex());
+        model.addSubject(Subject.of(LessonBuilder.DEFAULT_SUBJECT));
+        logic = new LogicManager(model, new StorageManager(eduDexStorage, userPrefsStorage));
+
+        logic.execute(FindCommand.COMMAND_WORD + " Alice Benson");
+        logic.execute(FindCommand.COMMAND_WORD + " d/Monday");
+        logic.execute(FindCommand.COMMAND_WORD + " sub/" + LessonBuilder.DEFAULT_SUBJECT);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.execute(ExitCommand.COMMAND_WORD);
+
+        assertEquals(0, writeCount[0]);
+        assertFalse(Files.exists(eduDexFilePath));
+    }
+
+    @Test
+    public void execute_script_savedOnce() throws Exception {
+        int[] saveCount = {0};
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eduDexStorage, userPrefsStorage));
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA)));
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getEduDex(), eduDexStorage.readEduDex().get());
+    }
+
+    @Test
+    public void execute_failedScriptWithRollback_saveSkipped() throws Exception {
+        int[] saveCount = {0};
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eduDexStorage, userPrefsStorage));
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(HOON), "delete 9"));
+
+        assertThrows(CommandException.class, () ->
+                logic.execute(RunCommand.COMMAND_WORD + " " + script + " " + PREFIX_ROLLBACK));
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(PersonUtil.getAddCommand(IDA));
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getEduDex(), eduDexStorage.readEduDex().get());
+    }
+
+    @Test
+    public void execute_failedScriptWithoutRollback_changesSaved() throws Exception {
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eduDexStorage, userPrefsStorage));
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(HOON), "delete 9"));
+
+        assertThrows(CommandException.class, () -> logic.execute(RunCommand.COMMAND_WORD + " " + script));
+
+        assertTrue(model.hasPerson(HOON));
+        assertEquals(model.getEduDex(), eduDexStorage.readEduDex().get());
+    }
+
+    @Test
+    public void execute_exitCommand_storageFlushed() throws Exception {
+        int[] flushCount = {0};
+        StorageManager storage = new StorageManager(new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void flush() {
+                flushCount[0]++;
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, flushCount[0]);
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(1, flushCount[0]);
+    }
+
+    @Test
+    public void execute_earlierSaveFailed_failureReportedWithoutFailingCommand() throws Exception {
+        StorageManager storage = new StorageManager(new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public Optional<IOException> getSaveFailure() {
+                return Optional.of(DUMMY_IO_EXCEPTION);
+            }
+        };
+        logic = new LogicManager(model, storage);
+        String warning = String.format(LogicManager.EARLIER_SAVE_FAILED_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+
+        // reported by commands that only read the data
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + warning,
+                logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+
+        // reported by commands that fail
+        assertThrows(CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n" + warning, () ->
+                logic.execute("delete 9"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
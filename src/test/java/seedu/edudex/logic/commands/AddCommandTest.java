@@ -24,8 +24,11 @@ import seedu.edudex.model.EduDex;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.PersonBuilder;
 
@@ -177,6 +180,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<PersonSubjectView> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Subject> getSubjectList() {
             throw new AssertionError("This method should not be called.");
@@ -197,22 +205,27 @@ public class AddCommandTest {
             return null;
         }
 
+        public void updateSubjectList(Predicate<Subject> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
-        public void sortLessonsForEachPerson() {
+        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
             throw new AssertionError("This method should not be called.");
         }
 
-        public void updateSubjectList(Predicate<Subject> predicate) {
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
+        public void updateFilteredPersonListByDay(Day day) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortLessonsForEachPersonBySubject(String subjectKeyword) {
+        public void updateFilteredPersonListBySubject(Subject subject) {
             throw new AssertionError("This method should not be called.");
         }
 
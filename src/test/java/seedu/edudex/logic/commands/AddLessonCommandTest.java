@@ -25,8 +25,11 @@ import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
@@ -276,6 +279,11 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<PersonSubjectView> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Subject> getSubjectList() {
             throw new AssertionError("This method should not be called.");
@@ -296,22 +304,27 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        public void updateSubjectList(Predicate<Subject> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
-        public void sortLessonsForEachPerson() {
+        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
             throw new AssertionError("This method should not be called.");
         }
 
-        public void updateSubjectList(Predicate<Subject> predicate) {
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
+        public void updateFilteredPersonListByDay(Day day) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortLessonsForEachPersonBySubject(String subjectKeyword) {
+        public void updateFilteredPersonListBySubject(Subject subject) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -377,7 +390,7 @@ public class AddLessonCommandTest {
         ModelStubWithOnePersonAndSubjects(Person person) {
             requireNonNull(person);
             this.person = person;
-            subjects.add(new Subject("Math"));
+            subjects.add(Subject.of("Math"));
         }
 
         @Override
@@ -23,8 +23,11 @@ import seedu.edudex.model.EduDex;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.SubjectBuilder;
 
@@ -177,6 +180,11 @@ public class AddSubjectCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<PersonSubjectView> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Subject> getSubjectList() {
             throw new AssertionError("This method should not be called.");
@@ -203,17 +211,22 @@ public class AddSubjectCommandTest {
         }
 
         @Override
-        public void sortLessonsForEachPerson() {
+        public void updateFilteredPersonListBySubject(Subject subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortLessonsForEachPersonBySubject(String subjectKeyword) {
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
+        public void updateFilteredPersonListByDay(Day day) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -24,6 +24,7 @@ import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.Time;
 import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
 import seedu.edudex.testutil.TypicalLessons;
 
@@ -51,20 +52,42 @@ public class DeleteLessonCommandTest {
 
         Model expectedModel = new ModelManager(new EduDex(model.getEduDex()), new UserPrefs());
         Person expectedStudent = new PersonBuilder(student).build();
-        expectedStudent.setLessons(List.of(SCIENCE)); // expected remaining lesson
+        expectedStudent = expectedStudent.withLessons(List.of(SCIENCE)); // expected remaining lesson
         expectedModel.setPerson(student, expectedStudent);
 
         assertCommandSuccess(deleteLessonCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_subjectFilteredList_deletesShownLesson() {
+        Lesson mondayMath = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+        Lesson fridayScience = new LessonBuilder().withSubject("Science").withDay("Friday").build();
+        Person student = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person studentWithLessons = student.withLessons(List.of(mondayMath, fridayScience));
+        model.setPerson(student, studentWithLessons);
+        model.updateFilteredPersonListBySubject(fridayScience.getSubject());
+
+        // the first lesson shown is the student's science lesson, not their first lesson
+        DeleteLessonCommand deleteLessonCommand = new DeleteLessonCommand(INDEX_FIRST_PERSON, Index.fromOneBased(1));
+
+        String expectedMessage = String.format(DeleteLessonCommand.MESSAGE_DELETE_LESSON_SUCCESS,
+                fridayScience, studentWithLessons.getName());
+
+        Model expectedModel = new ModelManager(new EduDex(model.getEduDex()), new UserPrefs());
+        expectedModel.setPerson(studentWithLessons, studentWithLessons.withLessons(List.of(mondayMath)));
+        expectedModel.updateFilteredPersonListBySubject(fridayScience.getSubject());
+
+        assertCommandSuccess(deleteLessonCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidLessonIndex_throwsCommandException() {
         Person student = new PersonBuilder(model.getFilteredPersonList()
                 .get(INDEX_FIRST_PERSON.getZeroBased())).build();
 
-        Lesson mathLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson mathLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
-        student.setLessons(List.of(mathLesson));
+        student = student.withLessons(List.of(mathLesson));
 
         // commit changes to model
         model.setPerson(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), student);
@@ -9,7 +9,6 @@ import static seedu.edudex.model.person.Lesson.MESSAGE_CONFLICTING_LESSON;
 import static seedu.edudex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.edudex.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -34,23 +33,23 @@ public class EditLessonCommandTest {
         // Setup: Person with a lesson
         Person personWithLesson = new PersonBuilder().withName("Bob").build();
         Lesson originalLesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        personWithLesson.setLessons(new ArrayList<>(List.of(originalLesson)));
+        personWithLesson = personWithLesson.withLessons(List.of(originalLesson));
 
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         model.addPerson(personWithLesson);
-        model.addSubject(new Subject("Mathematics"));
-        model.addSubject(new Subject("Physics"));
+        model.addSubject(Subject.of("Mathematics"));
+        model.addSubject(Subject.of("Physics"));
 
         // Edit all lesson fields
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
 
-        descriptor.setSubject(new Subject("Physics"));
-        descriptor.setDay(new Day("Tuesday"));
+        descriptor.setSubject(Subject.of("Physics"));
+        descriptor.setDay(Day.of("Tuesday"));
         descriptor.setStartTime(new Time("14:00"));
         descriptor.setEndTime(new Time("16:00"));
 
@@ -60,15 +59,15 @@ public class EditLessonCommandTest {
         Model expectedModel = new ModelManager(new EduDex(), new UserPrefs());
         Person expectedPerson = new PersonBuilder().withName("Bob").build();
         Lesson editedLesson = new Lesson(
-                new Subject("Physics"),
-                new Day("Tuesday"),
+                Subject.of("Physics"),
+                Day.of("Tuesday"),
                 new Time("14:00"),
                 new Time("16:00")
         );
-        expectedPerson.setLessons(new ArrayList<>(List.of(editedLesson)));
+        expectedPerson = expectedPerson.withLessons(List.of(editedLesson));
         expectedModel.addPerson(expectedPerson);
-        expectedModel.addSubject(new Subject("Mathematics"));
-        expectedModel.addSubject(new Subject("Physics"));
+        expectedModel.addSubject(Subject.of("Mathematics"));
+        expectedModel.addSubject(Subject.of("Physics"));
 
         String expectedMessage = String.format(EditLessonCommand.MESSAGE_EDIT_LESSON_SUCCESS,
                 expectedPerson.getName(), editedLesson);
@@ -81,20 +80,20 @@ public class EditLessonCommandTest {
         // Setup: Person with a lesson
         Person personWithLesson = new PersonBuilder().withName("Alice").build();
         Lesson originalLesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        personWithLesson.setLessons(new ArrayList<>(List.of(originalLesson)));
+        personWithLesson = personWithLesson.withLessons(List.of(originalLesson));
 
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         model.addPerson(personWithLesson);
-        model.addSubject(new Subject("Mathematics"));
+        model.addSubject(Subject.of("Mathematics"));
 
         // Edit only day and start time
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Wednesday"));
+        descriptor.setDay(Day.of("Wednesday"));
         descriptor.setStartTime(new Time("09:00"));
 
         EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor);
@@ -103,14 +102,14 @@ public class EditLessonCommandTest {
         Model expectedModel = new ModelManager(new EduDex(), new UserPrefs());
         Person expectedPerson = new PersonBuilder().withName("Alice").build();
         Lesson editedLesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Wednesday"),
+                Subject.of("Mathematics"),
+                Day.of("Wednesday"),
                 new Time("09:00"),
                 new Time("12:00")
         );
-        expectedPerson.setLessons(new ArrayList<>(List.of(editedLesson)));
+        expectedPerson = expectedPerson.withLessons(List.of(editedLesson));
         expectedModel.addPerson(expectedPerson);
-        expectedModel.addSubject(new Subject("Mathematics"));
+        expectedModel.addSubject(Subject.of("Mathematics"));
 
         String expectedMessage = String.format(EditLessonCommand.MESSAGE_EDIT_LESSON_SUCCESS,
                 expectedPerson.getName(), editedLesson);
@@ -118,23 +117,58 @@ public class EditLessonCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_subjectFilteredList_editsShownLesson() {
+        Lesson mondayMath = new Lesson(Subject.of("Mathematics"), Day.of("Monday"),
+                new Time("10:00"), new Time("12:00"));
+        Lesson fridayPhysics = new Lesson(Subject.of("Physics"), Day.of("Friday"),
+                new Time("10:00"), new Time("12:00"));
+        Person personWithLessons = new PersonBuilder().withName("Bob")
+                .withLessons(List.of(mondayMath, fridayPhysics)).build();
+
+        Model model = new ModelManager(new EduDex(), new UserPrefs());
+        model.addPerson(personWithLessons);
+        model.addSubject(Subject.of("Mathematics"));
+        model.addSubject(Subject.of("Physics"));
+        model.updateFilteredPersonListBySubject(Subject.of("Physics"));
+
+        // the first lesson shown is the person's physics lesson, not their first lesson
+        EditLessonDescriptor descriptor = new EditLessonDescriptor();
+        descriptor.setDay(Day.of("Monday"));
+        descriptor.setStartTime(new Time("13:00"));
+        descriptor.setEndTime(new Time("14:00"));
+        EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor);
+
+        Lesson editedLesson = new Lesson(Subject.of("Physics"), Day.of("Monday"),
+                new Time("13:00"), new Time("14:00"));
+        Model expectedModel = new ModelManager(new EduDex(), new UserPrefs());
+        expectedModel.addPerson(personWithLessons.withLessons(List.of(mondayMath, editedLesson)));
+        expectedModel.addSubject(Subject.of("Mathematics"));
+        expectedModel.addSubject(Subject.of("Physics"));
+
+        String expectedMessage = String.format(EditLessonCommand.MESSAGE_EDIT_LESSON_SUCCESS,
+                personWithLessons.getName(), editedLesson);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidPersonIndex_failure() {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         Person person = new PersonBuilder().withName("Bob").build();
         Lesson lesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        person.setLessons(new ArrayList<>(List.of(lesson)));
+        person = person.withLessons(List.of(lesson));
         model.addPerson(person);
-        model.addSubject(new Subject("Mathematics"));
+        model.addSubject(Subject.of("Mathematics"));
 
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Tuesday"));
+        descriptor.setDay(Day.of("Tuesday"));
 
         EditLessonCommand editCommand = new EditLessonCommand(outOfBoundIndex, INDEX_FIRST_PERSON, descriptor);
 
@@ -146,18 +180,18 @@ public class EditLessonCommandTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         Person person = new PersonBuilder().withName("Bob").build();
         Lesson lesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        person.setLessons(new ArrayList<>(List.of(lesson)));
+        person = person.withLessons(List.of(lesson));
         model.addPerson(person);
-        model.addSubject(new Subject("Mathematics"));
+        model.addSubject(Subject.of("Mathematics"));
 
         Index outOfBoundLessonIndex = Index.fromOneBased(2);
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Tuesday"));
+        descriptor.setDay(Day.of("Tuesday"));
 
         EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_PERSON, outOfBoundLessonIndex, descriptor);
 
@@ -171,7 +205,7 @@ public class EditLessonCommandTest {
         model.addPerson(person);
 
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Tuesday"));
+        descriptor.setDay(Day.of("Tuesday"));
 
         EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor);
 
@@ -183,14 +217,14 @@ public class EditLessonCommandTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         Person person = new PersonBuilder().withName("Nina").build();
         Lesson lesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        person.setLessons(new ArrayList<>(List.of(lesson)));
+        person = person.withLessons(List.of(lesson));
         model.addPerson(person);
-        model.addSubject(new Subject("Mathematics"));
+        model.addSubject(Subject.of("Mathematics"));
 
         // Try to edit start time to 13:00, making it 13:00-12:00 (invalid)
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
@@ -206,18 +240,18 @@ public class EditLessonCommandTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         Person person = new PersonBuilder().withName("Bob").build();
         Lesson lesson = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        person.setLessons(new ArrayList<>(List.of(lesson)));
+        person = person.withLessons(List.of(lesson));
         model.addPerson(person);
-        model.addSubject(new Subject("Mathematics"));
+        model.addSubject(Subject.of("Mathematics"));
 
         // Try to edit to a subject not in the model
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Physics"));
+        descriptor.setSubject(Subject.of("Physics"));
 
         EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor);
 
@@ -232,21 +266,21 @@ public class EditLessonCommandTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
         Person person = new PersonBuilder().withName("Bob").build();
         Lesson lesson1 = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
         Lesson lesson2 = new Lesson(
-                new Subject("Physics"),
-                new Day("Monday"),
+                Subject.of("Physics"),
+                Day.of("Monday"),
                 new Time("14:00"),
                 new Time("16:00")
         );
-        person.setLessons(new ArrayList<>(List.of(lesson1, lesson2)));
+        person = person.withLessons(List.of(lesson1, lesson2));
         model.addPerson(person);
-        model.addSubject(new Subject("Mathematics"));
-        model.addSubject(new Subject("Physics"));
+        model.addSubject(Subject.of("Mathematics"));
+        model.addSubject(Subject.of("Physics"));
 
         // Try to edit lesson 1 to conflict with lesson 2
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
@@ -266,26 +300,26 @@ public class EditLessonCommandTest {
 
         Person person1 = new PersonBuilder().withName("Alice").build();
         Lesson lesson1 = new Lesson(
-                new Subject("Mathematics"),
-                new Day("Monday"),
+                Subject.of("Mathematics"),
+                Day.of("Monday"),
                 new Time("10:00"),
                 new Time("12:00")
         );
-        person1.setLessons(new ArrayList<>(List.of(lesson1)));
+        person1 = person1.withLessons(List.of(lesson1));
 
         Person person2 = new PersonBuilder().withName("Bob").build();
         Lesson lesson2 = new Lesson(
-                new Subject("Physics"),
-                new Day("Monday"),
+                Subject.of("Physics"),
+                Day.of("Monday"),
                 new Time("14:00"),
                 new Time("16:00")
         );
-        person2.setLessons(new ArrayList<>(List.of(lesson2)));
+        person2 = person2.withLessons(List.of(lesson2));
 
         model.addPerson(person1);
         model.addPerson(person2);
-        model.addSubject(new Subject("Mathematics"));
-        model.addSubject(new Subject("Physics"));
+        model.addSubject(Subject.of("Mathematics"));
+        model.addSubject(Subject.of("Physics"));
 
         // Try to edit person2's lesson to conflict with person1's lesson
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
@@ -300,10 +334,10 @@ public class EditLessonCommandTest {
     @Test
     public void equals() {
         EditLessonDescriptor descriptor1 = new EditLessonDescriptor();
-        descriptor1.setDay(new Day("Monday"));
+        descriptor1.setDay(Day.of("Monday"));
 
         EditLessonDescriptor descriptor2 = new EditLessonDescriptor();
-        descriptor2.setDay(new Day("Tuesday"));
+        descriptor2.setDay(Day.of("Tuesday"));
 
         EditLessonCommand command1 = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor1);
         EditLessonCommand command2 = new EditLessonCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, descriptor1);
@@ -338,7 +372,7 @@ public class EditLessonCommandTest {
         Index personIndex = Index.fromOneBased(1);
         Index lessonIndex = Index.fromOneBased(1);
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Monday"));
+        descriptor.setDay(Day.of("Monday"));
 
         EditLessonCommand command = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         String expected = EditLessonCommand.class.getCanonicalName()
@@ -16,8 +16,8 @@ public class EditLessonDescriptorTest {
     @Test
     public void equals() {
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Mathematics"));
-        descriptor.setDay(new Day("Monday"));
+        descriptor.setSubject(Subject.of("Mathematics"));
+        descriptor.setDay(Day.of("Monday"));
         descriptor.setStartTime(new Time("10:00"));
         descriptor.setEndTime(new Time("12:00"));
 
@@ -36,12 +36,12 @@ public class EditLessonDescriptorTest {
 
         // different subject -> returns false
         EditLessonDescriptor differentDescriptor = new EditLessonDescriptor(descriptor);
-        differentDescriptor.setSubject(new Subject("Physics"));
+        differentDescriptor.setSubject(Subject.of("Physics"));
         assertFalse(descriptor.equals(differentDescriptor));
 
         // different day -> returns false
         differentDescriptor = new EditLessonDescriptor(descriptor);
-        differentDescriptor.setDay(new Day("Tuesday"));
+        differentDescriptor.setDay(Day.of("Tuesday"));
         assertFalse(descriptor.equals(differentDescriptor));
 
         // different start time -> returns false
@@ -58,12 +58,12 @@ public class EditLessonDescriptorTest {
     @Test
     public void hashCodeTest() {
         EditLessonDescriptor descriptor1 = new EditLessonDescriptor();
-        descriptor1.setSubject(new Subject("Mathematics"));
-        descriptor1.setDay(new Day("Monday"));
+        descriptor1.setSubject(Subject.of("Mathematics"));
+        descriptor1.setDay(Day.of("Monday"));
 
         EditLessonDescriptor descriptor2 = new EditLessonDescriptor();
-        descriptor2.setSubject(new Subject("Mathematics"));
-        descriptor2.setDay(new Day("Monday"));
+        descriptor2.setSubject(Subject.of("Mathematics"));
+        descriptor2.setDay(Day.of("Monday"));
 
         assertEquals(descriptor1.hashCode(), descriptor2.hashCode());
     }
@@ -28,10 +28,11 @@ import seedu.edudex.model.person.DayMatchesPredicate;
 import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
-import seedu.edudex.model.person.SubjectComparator;
 import seedu.edudex.model.person.SubjectMatchesPredicate;
 import seedu.edudex.model.person.Time;
 import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonReadCountingPerson;
+import seedu.edudex.testutil.NameReadCountingPerson;
 import seedu.edudex.testutil.PersonBuilder;
 
 /**
@@ -51,8 +52,8 @@ public class FindCommandTest {
                 new NameContainsKeywordsPredicate(Collections.singletonList("first"));
         NameContainsKeywordsPredicate secondPredicate =
                 new NameContainsKeywordsPredicate(Collections.singletonList("second"));
-        DayMatchesPredicate firstDayPredicate = new DayMatchesPredicate(new Day("Monday"));
-        DayMatchesPredicate secondDayPredicate = new DayMatchesPredicate(new Day("Tuesday"));
+        DayMatchesPredicate firstDayPredicate = new DayMatchesPredicate(Day.of("Monday"));
+        DayMatchesPredicate secondDayPredicate = new DayMatchesPredicate(Day.of("Tuesday"));
 
         FindCommand findByNameFirst = new FindCommand(firstPredicate);
         FindCommand findByNameSecond = new FindCommand(secondPredicate);
@@ -184,10 +185,28 @@ public class FindCommandTest {
     // Day-Based Find tests
     // ----------------------------------------------
 
+    @Test
+    public void executeByName_personsWithoutMatchingName_notTested() throws Exception {
+        Model model = new ModelManager(new EduDex(), new UserPrefs());
+        Person alice = new PersonBuilder().withName("Alice Tan").build();
+        NameReadCountingPerson bob = new NameReadCountingPerson(new PersonBuilder().withName("Bob Lim").build());
+        model.addPerson(alice);
+        model.addPerson(bob);
+        bob.resetNameReads();
+
+        FindCommand command = new FindCommand(prepareNamePredicate("ali"));
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                command.execute(model).getFeedbackToUser());
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+        // candidates come from the name index, so a person whose name does not match is never tested
+        assertEquals(0, bob.getNameReads());
+    }
+
     @Test
     public void execute_validDay_personsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
-        DayMatchesPredicate predicate = new DayMatchesPredicate(new Day("Monday"));
+        DayMatchesPredicate predicate = new DayMatchesPredicate(Day.of("Monday"));
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredPersonList(predicate);
 
@@ -206,6 +225,28 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void executeByDay_personsWithoutLessonsOnDay_notTested() throws Exception {
+        Model model = new ModelManager(new EduDex(), new UserPrefs());
+        Person mondayStudent = new PersonBuilder().withName("Student A").build()
+                .withLessons(List.of(new Lesson(Subject.of("Math"), Day.of("Monday"),
+                        new Time("10:00"), new Time("11:00"))));
+        LessonReadCountingPerson tuesdayStudent = new LessonReadCountingPerson(
+                new PersonBuilder().withName("Student B").build()
+                        .withLessons(List.of(new Lesson(Subject.of("Math"), Day.of("Tuesday"),
+                                new Time("12:00"), new Time("13:00")))));
+        model.addPerson(mondayStudent);
+        model.addPerson(tuesdayStudent);
+        tuesdayStudent.resetLessonReads();
+
+        FindCommand command = new FindCommand(prepareDayPredicate("Monday"));
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                command.execute(model).getFeedbackToUser());
+        // candidates come from the day index, so a person without lessons on the day is never tested
+        assertEquals(0, tuesdayStudent.getLessonReads());
+    }
+
     @Test
     public void executeByDay_invalidDayFormat_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> prepareDayPredicate("mondayy"));
@@ -235,14 +276,14 @@ public class FindCommandTest {
     @Test
     public void executeBySubject_singleSubjectMatch_success() {
         Person student = new PersonBuilder().withName("Student A").build();
-        Lesson math = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson math = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
-        Lesson science = new Lesson(new Subject("Science"), new Day("Tuesday"),
+        Lesson science = new Lesson(Subject.of("Science"), Day.of("Tuesday"),
                 new Time("12:00"), new Time("13:00"));
-        student.setLessons(List.of(math, science));
+        student = student.withLessons(List.of(math, science));
 
-        model.addSubject(new Subject("Math"));
-        expectedModel.addSubject(new Subject("Math"));
+        model.addSubject(Subject.of("Math"));
+        expectedModel.addSubject(Subject.of("Math"));
 
         model.addPerson(student);
         expectedModel.addPerson(student);
@@ -251,9 +292,7 @@ public class FindCommandTest {
 
         FindCommand command = new FindCommand(subjectPredicate);
 
-        expectedModel.updateFilteredPersonList(subjectPredicate);
-        expectedModel.sortFilteredPersonList(new SubjectComparator());
-        expectedModel.sortLessonsForEachPersonBySubject(subjectPredicate.getSubjectKeyword());
+        expectedModel.updateFilteredPersonListBySubject(Subject.of("Math"));
 
         assertCommandSuccess(command, model,
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
@@ -266,12 +305,12 @@ public class FindCommandTest {
 
         // Add a student with a Science lesson
         Person student = new PersonBuilder().withName("Student A").build();
-        Lesson sci = new Lesson(new Subject("Science"), new Day("Tuesday"),
+        Lesson sci = new Lesson(Subject.of("Science"), Day.of("Tuesday"),
                 new Time("12:00"), new Time("13:00"));
-        student.setLessons(List.of(sci));
+        student = student.withLessons(List.of(sci));
 
-        model.addSubject(new Subject("Math"));
-        expectedModel.addSubject(new Subject("Math"));
+        model.addSubject(Subject.of("Math"));
+        expectedModel.addSubject(Subject.of("Math"));
 
         model.addPerson(student);
         expectedModel.addPerson(student);
@@ -280,9 +319,7 @@ public class FindCommandTest {
 
         FindCommand command = new FindCommand(subjectPredicate);
 
-        expectedModel.updateFilteredPersonList(subjectPredicate);
-        expectedModel.sortFilteredPersonList(new SubjectComparator());
-        expectedModel.sortLessonsForEachPersonBySubject(subjectPredicate.getSubjectKeyword());
+        expectedModel.updateFilteredPersonListBySubject(Subject.of("Math"));
 
         assertCommandSuccess(command, model,
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
@@ -293,14 +330,14 @@ public class FindCommandTest {
     public void executeBySubject_subjectMatch_success() {
         // Create student with lessons
         Person student = new PersonBuilder().withName("Student A").build();
-        Lesson mathLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson mathLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
-        Lesson scienceLesson = new Lesson(new Subject("Science"), new Day("Tuesday"),
+        Lesson scienceLesson = new Lesson(Subject.of("Science"), Day.of("Tuesday"),
                 new Time("13:00"), new Time("14:00"));
-        student.setLessons(List.of(mathLesson, scienceLesson));
+        student = student.withLessons(List.of(mathLesson, scienceLesson));
 
-        model.addSubject(new Subject("Math"));
-        expectedModel.addSubject(new Subject("Math"));
+        model.addSubject(Subject.of("Math"));
+        expectedModel.addSubject(Subject.of("Math"));
 
         model.addPerson(student);
         expectedModel.addPerson(student);
@@ -319,13 +356,36 @@ public class FindCommandTest {
     }
 
 
+    @Test
+    public void executeBySubject_personsWithoutSubject_notTested() throws Exception {
+        Model model = new ModelManager(new EduDex(), new UserPrefs());
+        Person mathStudent = new PersonBuilder().withName("Student A").build()
+                .withLessons(List.of(new Lesson(Subject.of("Math"), Day.of("Monday"),
+                        new Time("10:00"), new Time("11:00"))));
+        LessonReadCountingPerson scienceStudent = new LessonReadCountingPerson(
+                new PersonBuilder().withName("Student B").build()
+                        .withLessons(List.of(new Lesson(Subject.of("Science"), Day.of("Tuesday"),
+                                new Time("12:00"), new Time("13:00")))));
+        model.addSubject(Subject.of("Math"));
+        model.addPerson(mathStudent);
+        model.addPerson(scienceStudent);
+        scienceStudent.resetLessonReads();
+
+        FindCommand command = new FindCommand(new SubjectMatchesPredicate("Math"));
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                command.execute(model).getFeedbackToUser());
+        // candidates come from the subject index, so a person without the subject is never tested
+        assertEquals(0, scienceStudent.getLessonReads());
+    }
+
     @Test
     public void executeBySubject_subjectNotFound_noPersonsFound() {
         SubjectMatchesPredicate predicate = new SubjectMatchesPredicate("Art");
         FindCommand command = new FindCommand(predicate);
 
-        model.addSubject(new Subject("Art"));
-        expectedModel.addSubject(new Subject("Art"));
+        model.addSubject(Subject.of("Art"));
+        expectedModel.addSubject(Subject.of("Art"));
         expectedModel.updateFilteredPersonList(predicate);
         assertCommandSuccess(command, model,
                 String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
@@ -364,6 +424,6 @@ public class FindCommandTest {
      * Parses {@code userInput} into a {@code DayMatchesPredicate}.
      */
     private DayMatchesPredicate prepareDayPredicate(String userInput) {
-        return new DayMatchesPredicate(new Day(userInput));
+        return new DayMatchesPredicate(Day.of(userInput));
     }
 }
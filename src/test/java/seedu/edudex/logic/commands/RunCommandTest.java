@@ -0,0 +1,178 @@
+package seedu.edudex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edudex.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.edudex.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.EduDexParser;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalEduDex(), new UserPrefs());
+
+    @Test
+    public void constructor_nullScriptFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, false));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path script = writeScript("# new students", PersonUtil.getAddCommand(HOON), "",
+                "  " + PersonUtil.getAddCommand(IDA) + "  ", ListCommand.COMMAND_WORD);
+
+        Model expectedModel = new ModelManager(getTypicalEduDex(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+
+        assertCommandSuccess(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 3, script), expectedModel);
+    }
+
+    @Test
+    public void execute_commandRegisteredWithScriptParser_commandRun() throws Exception {
+        EduDexParser scriptParser = new EduDexParser();
+        scriptParser.registerCommand("addhoon", arguments -> new AddCommand(HOON));
+        Path script = writeScript("addhoon");
+
+        Model expectedModel = new ModelManager(getTypicalEduDex(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+
+        assertCommandSuccess(new RunCommand(script, false, scriptParser), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 1, script), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidLine_nothingRun() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), "", "unknowncommand 1");
+
+        assertCommandFailure(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_INVALID_LINE, 3, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_nestedScript_nothingRun() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), RunCommand.COMMAND_WORD + " other.txt");
+
+        assertCommandFailure(new RunCommand(script, true), model,
+                String.format(RunCommand.MESSAGE_INVALID_LINE, 2, RunCommand.MESSAGE_NESTED_SCRIPT));
+    }
+
+    @Test
+    public void execute_exitInScript_nothingRun() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), ExitCommand.COMMAND_WORD);
+
+        assertCommandFailure(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_INVALID_LINE, 2, RunCommand.MESSAGE_EXIT_IN_SCRIPT));
+    }
+
+    @Test
+    public void execute_failedLineWithRollback_allChangesUndone() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA),
+                DeleteCommand.COMMAND_WORD + " 100");
+
+        assertCommandFailure(new RunCommand(script, true), model,
+                String.format(RunCommand.MESSAGE_FAILED_LINE_ROLLED_BACK, 3, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.hasPerson(HOON));
+    }
+
+    @Test
+    public void execute_unexpectedErrorWithRollback_allChangesUndone() throws Exception {
+        Model failingModel = new ModelManager(getTypicalEduDex(), new UserPrefs()) {
+            @Override
+            public void addPerson(Person person) {
+                if (person.isSamePerson(IDA)) {
+                    throw new IllegalStateException();
+                }
+                super.addPerson(person);
+            }
+        };
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA));
+
+        assertThrows(IllegalStateException.class, () -> new RunCommand(script, true).execute(failingModel));
+        assertFalse(failingModel.hasPerson(HOON));
+    }
+
+    @Test
+    public void execute_failedLineWithoutRollback_earlierChangesKept() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), DeleteCommand.COMMAND_WORD + " 100",
+                PersonUtil.getAddCommand(IDA));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED_LINE, 2, 1,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> new RunCommand(script, false).execute(model));
+        assertTrue(model.hasPerson(HOON));
+        assertFalse(model.hasPerson(IDA));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+
+        // the message of a NoSuchFileException is the missing file
+        assertCommandFailure(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_CANNOT_READ_SCRIPT, script, script));
+    }
+
+    @Test
+    public void equals() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, false);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(testFolder.resolve("script.txt"), false)));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("other.txt"), false)));
+
+        // different rollback -> returns false
+        assertFalse(runCommand.equals(new RunCommand(script, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, true);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFile=" + script + ", isRollbackOnFailure=true}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
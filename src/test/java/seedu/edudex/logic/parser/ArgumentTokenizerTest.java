@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix sub = new Prefix("s/");
+        Prefix subject = new Prefix("s/ub/");
+        String argsString = "preamble s/ub/ Math s/ Science";
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, sub, subject);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, subject, "Math");
+        assertArgumentPresent(argMultimap, sub, "Science");
+
+        // order of the given prefixes does not matter
+        argMultimap = ArgumentTokenizer.tokenize(argsString, subject, sub);
+        assertArgumentPresent(argMultimap, subject, "Math");
+        assertArgumentPresent(argMultimap, sub, "Science");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "preamble\tp/ value \np/ value2  p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/ value \np/ value2");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -94,8 +94,8 @@ public class EditLessonCommandParserTest {
                 + " " + PREFIX_END + "12:00";
 
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Mathematics"));
-        descriptor.setDay(new Day("Monday"));
+        descriptor.setSubject(Subject.of("Mathematics"));
+        descriptor.setDay(Day.of("Monday"));
         descriptor.setStartTime(new Time("10:00"));
         descriptor.setEndTime(new Time("12:00"));
 
@@ -113,7 +113,7 @@ public class EditLessonCommandParserTest {
         String userInput = personIndex.getOneBased() + " " + lessonIndex.getOneBased()
                 + " " + PREFIX_DAY + "Wednesday";
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Wednesday"));
+        descriptor.setDay(Day.of("Wednesday"));
         EditLessonCommand expectedCommand = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
@@ -121,7 +121,7 @@ public class EditLessonCommandParserTest {
         userInput = personIndex.getOneBased() + " " + lessonIndex.getOneBased()
                 + " " + PREFIX_SUBJECT + "Physics";
         descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Physics"));
+        descriptor.setSubject(Subject.of("Physics"));
         expectedCommand = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
@@ -130,7 +130,7 @@ public class EditLessonCommandParserTest {
                 + " " + PREFIX_DAY + "Tuesday"
                 + " " + PREFIX_START + "14:00";
         descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Tuesday"));
+        descriptor.setDay(Day.of("Tuesday"));
         descriptor.setStartTime(new Time("14:00"));
         expectedCommand = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -155,7 +155,7 @@ public class EditLessonCommandParserTest {
         String userInput = personIndex.getOneBased() + " " + lessonIndex.getOneBased()
                 + " " + PREFIX_SUBJECT + "Mathematics";
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Mathematics"));
+        descriptor.setSubject(Subject.of("Mathematics"));
         EditLessonCommand expectedCommand = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
@@ -163,7 +163,7 @@ public class EditLessonCommandParserTest {
         userInput = personIndex.getOneBased() + " " + lessonIndex.getOneBased()
                 + " " + PREFIX_DAY + "Friday";
         descriptor = new EditLessonDescriptor();
-        descriptor.setDay(new Day("Friday"));
+        descriptor.setDay(Day.of("Friday"));
         expectedCommand = new EditLessonCommand(personIndex, lessonIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
@@ -240,8 +240,8 @@ public class EditLessonCommandParserTest {
                 + " " + PREFIX_SUBJECT + "Chemistry";
 
         EditLessonDescriptor descriptor = new EditLessonDescriptor();
-        descriptor.setSubject(new Subject("Chemistry"));
-        descriptor.setDay(new Day("Thursday"));
+        descriptor.setSubject(Subject.of("Chemistry"));
+        descriptor.setDay(Day.of("Thursday"));
         descriptor.setStartTime(new Time("14:00"));
         descriptor.setEndTime(new Time("16:00"));
 
@@ -1,12 +1,15 @@
 package seedu.edudex.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_ROLLBACK;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +24,7 @@ import seedu.edudex.logic.commands.ExitCommand;
 import seedu.edudex.logic.commands.FindCommand;
 import seedu.edudex.logic.commands.HelpCommand;
 import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
@@ -87,6 +91,13 @@ public class EduDexParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt "
+                + PREFIX_ROLLBACK);
+        assertEquals(new RunCommand(Paths.get("script.txt"), true), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -97,4 +108,59 @@ public class EduDexParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTab_success() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_argumentsOverSeveralLines_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseCommand(ListCommand.COMMAND_WORD
+                + " 1\n2"));
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseCommand(ListCommand.COMMAND_WORD
+                + "\r\n2"));
+    }
+
+    @Test
+    public void registerCommand_newCommandWord_parsedWithRegisteredParser() throws Exception {
+        String commandWord = "registertest";
+        assertFalse(parser.isRegisteredCommand(commandWord));
+
+        parser.registerCommand(commandWord, arguments -> new FindCommand(
+                new NameContainsKeywordsPredicate(List.of(arguments.trim()))));
+
+        assertTrue(parser.isRegisteredCommand(commandWord));
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(List.of("foo"))),
+                parser.parseCommand(commandWord + " foo"));
+    }
+
+    @Test
+    public void registerCommand_otherParser_notRegistered() {
+        String commandWord = "registertest";
+        parser.registerCommand(commandWord, arguments -> new ListCommand());
+
+        EduDexParser otherParser = new EduDexParser();
+        assertFalse(otherParser.isRegisteredCommand(commandWord));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> otherParser.parseCommand(commandWord));
+    }
+
+    @Test
+    public void registerCommand_registeredCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(EduDexParser.MESSAGE_DUPLICATE_COMMAND_WORD,
+                ListCommand.COMMAND_WORD), () -> parser.registerCommand(ListCommand.COMMAND_WORD,
+                        arguments -> new ListCommand()));
+    }
+
+    @Test
+    public void registerCommand_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(EduDexParser.MESSAGE_INVALID_COMMAND_WORD, ""), ()
+            -> parser.registerCommand("", arguments -> new ListCommand()));
+        assertThrows(IllegalArgumentException.class, String.format(EduDexParser.MESSAGE_INVALID_COMMAND_WORD,
+                "two words"), () -> parser.registerCommand("two words", arguments -> new ListCommand()));
+        assertThrows(NullPointerException.class, () -> parser.registerCommand("nullparser", null));
+    }
 }
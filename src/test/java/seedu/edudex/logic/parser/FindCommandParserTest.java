@@ -49,7 +49,7 @@ public class FindCommandParserTest {
     // ----------------------------------------------
     @Test
     public void parse_validDayPrefix_returnsFindCommand() {
-        FindCommand expectedCommand = new FindCommand(new DayMatchesPredicate(new Day("Monday")));
+        FindCommand expectedCommand = new FindCommand(new DayMatchesPredicate(Day.of("Monday")));
         assertParseSuccess(parser, " d/Monday", expectedCommand);
     }
 
@@ -95,7 +95,7 @@ public class FindCommandParserTest {
     public void parse_validDay_success() throws ParseException {
         FindCommandParser parser = new FindCommandParser();
         FindCommand command = parser.parse(" d/Tuesday");
-        assertEquals(new FindCommand(new DayMatchesPredicate(new Day("Tuesday"))), command);
+        assertEquals(new FindCommand(new DayMatchesPredicate(Day.of("Tuesday"))), command);
     }
 
     @Test
@@ -6,6 +6,7 @@ import static seedu.edudex.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -220,28 +221,28 @@ public class ParserUtilTest {
 
     @Test
     public void parseSubject_validValueWithoutWhitespace_returnsSubject() throws Exception {
-        Subject expectedSubject = new Subject(VALID_SUBJECT);
+        Subject expectedSubject = Subject.of(VALID_SUBJECT);
         assertEquals(expectedSubject, ParserUtil.parseSubjectName(VALID_SUBJECT));
     }
 
     @Test
     public void parseSubject_validValueWithWhitespace_returnsSubject() throws Exception {
         String subjectWithWhitespace = WHITESPACE + VALID_SUBJECT + WHITESPACE;
-        Subject expectedSubject = new Subject(VALID_SUBJECT);
+        Subject expectedSubject = Subject.of(VALID_SUBJECT);
         assertEquals(expectedSubject, ParserUtil.parseSubjectName(subjectWithWhitespace));
     }
 
     @Test
     public void parseLesson_validValuesWithoutWhitespace_returnsSubject() throws Exception {
-        Lesson expectedLesson = new Lesson(new Subject(VALID_SUBJECT),
-                new Day(VALID_DAY), new Time(VALID_STARTTIME), new Time(VALID_ENDTIME));
+        Lesson expectedLesson = new Lesson(Subject.of(VALID_SUBJECT),
+                Day.of(VALID_DAY), new Time(VALID_STARTTIME), new Time(VALID_ENDTIME));
         assertEquals(expectedLesson, ParserUtil.parseLesson(VALID_SUBJECT, VALID_DAY, VALID_STARTTIME,
                     VALID_ENDTIME));
     }
 
     @Test
     public void parseDay_validValueWithoutWhitespace_returnsDay() throws Exception {
-        Day expectedDay = new Day(VALID_DAY);
+        Day expectedDay = Day.of(VALID_DAY);
         assertEquals(expectedDay, ParserUtil.parseDay(VALID_DAY));
     }
 
@@ -251,4 +252,17 @@ public class ParserUtilTest {
         assertEquals(expectedTime, ParserUtil.parseTime(VALID_STARTTIME));
     }
 
+    @Test
+    public void parseFilePath_validValueWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data/term 4.txt"), ParserUtil.parseFilePath("  data/term 4.txt  "));
+    }
+
+    @Test
+    public void parseFilePath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, () ->
+                ParserUtil.parseFilePath(WHITESPACE));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FILE_PATH, () ->
+                ParserUtil.parseFilePath("script\u0000.txt"));
+    }
+
 }
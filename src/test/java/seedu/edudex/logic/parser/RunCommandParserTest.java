@@ -0,0 +1,51 @@
+package seedu.edudex.logic.parser;
+
+import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+import static seedu.edudex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.edudex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.logic.Messages;
+import seedu.edudex.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/term 4.txt ", new RunCommand(Paths.get("data/term 4.txt"), false));
+        assertParseSuccess(parser, " script.txt " + PREFIX_ROLLBACK, new RunCommand(Paths.get("script.txt"), true));
+        assertParseSuccess(parser, " script.txt " + PREFIX_ROLLBACK + "  ",
+                new RunCommand(Paths.get("script.txt"), true));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_ROLLBACK, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_rollbackWithValue_throwsParseException() {
+        assertParseFailure(parser, " script.txt " + PREFIX_ROLLBACK + "yes", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_repeatedRollback_throwsParseException() {
+        assertParseFailure(parser, " script.txt " + PREFIX_ROLLBACK + " " + PREFIX_ROLLBACK,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_ROLLBACK));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " script\u0000.txt", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
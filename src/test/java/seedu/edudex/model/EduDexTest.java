@@ -2,11 +2,16 @@ package seedu.edudex.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.edudex.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
 import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
 import static seedu.edudex.testutil.TypicalSubjects.MATH;
 
@@ -15,14 +20,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
 
 public class EduDexTest {
@@ -81,6 +90,59 @@ public class EduDexTest {
         assertTrue(eduDex.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPersonWithLessonConflict_afterPersonEditedAndRemoved_reflectsCurrentLessons() {
+        Lesson mondayLesson = new LessonBuilder().withDay("Monday").build();
+        Lesson tuesdayLesson = new LessonBuilder().withDay("Tuesday").build();
+        Person student = new PersonBuilder().withLessons(List.of(mondayLesson)).build();
+        eduDex.addPerson(student);
+
+        Lesson overlapsMonday = new LessonBuilder(mondayLesson).withSubject("English").build();
+        Lesson overlapsTuesday = new LessonBuilder(tuesdayLesson).withSubject("English").build();
+        assertEquals(student, eduDex.findPersonWithLessonConflict(overlapsMonday, null));
+
+        Person movedStudent = new PersonBuilder(student).withLessons(List.of(tuesdayLesson)).build();
+        eduDex.setPerson(student, movedStudent);
+        assertNull(eduDex.findPersonWithLessonConflict(overlapsMonday, null));
+        assertEquals(movedStudent, eduDex.findPersonWithLessonConflict(overlapsTuesday, null));
+
+        eduDex.removePerson(movedStudent);
+        assertNull(eduDex.findPersonWithLessonConflict(overlapsTuesday, null));
+    }
+
+    @Test
+    public void getPersonsWithSubject_afterPersonEdited_reflectsCurrentLessons() {
+        Lesson mathLesson = new LessonBuilder().withSubject("Math").build();
+        Lesson scienceLesson = new LessonBuilder().withSubject("Science").build();
+        Person student = new PersonBuilder().withLessons(List.of(mathLesson)).build();
+        eduDex.addPerson(student);
+        assertEquals(Set.of(student), eduDex.getPersonsWithSubject(MATH));
+
+        Person editedStudent = new PersonBuilder(student).withLessons(List.of(scienceLesson)).build();
+        eduDex.setPerson(student, editedStudent);
+        assertTrue(eduDex.getPersonsWithSubject(MATH).isEmpty());
+        assertEquals(Set.of(editedStudent), eduDex.getPersonsWithSubject(Subject.of("Science")));
+    }
+
+    @Test
+    public void getPersonsWithLessonsOn_afterDataChanges_reflectsCurrentLessons() {
+        Day monday = Day.of("Monday");
+        Lesson mondayLesson = new LessonBuilder().withDay("Monday").build();
+        Lesson laterMondayLesson = new LessonBuilder().withDay("Monday").withStartTime("15:00")
+                .withEndTime("16:00").build();
+        Person student = new PersonBuilder().withLessons(List.of(mondayLesson, laterMondayLesson)).build();
+
+        eduDex.addPerson(student);
+        assertEquals(Set.of(student), eduDex.getPersonsWithLessonsOn(monday));
+
+        Person editedStudent = new PersonBuilder(student).withLessons(List.of(laterMondayLesson)).build();
+        eduDex.setPerson(student, editedStudent);
+        assertEquals(Set.of(editedStudent), eduDex.getPersonsWithLessonsOn(monday));
+
+        eduDex.resetData(new EduDex());
+        assertTrue(eduDex.getPersonsWithLessonsOn(monday).isEmpty());
+    }
+
     @Test
     public void hasSubject_nullSubject_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> eduDex.hasSubject(null));
@@ -100,7 +162,7 @@ public class EduDexTest {
     @Test
     public void hasSubject_subjectWithSameNameInEduDex_returnsTrue() {
         eduDex.addSubject(MATH);
-        Subject editedMath = new Subject("Math");
+        Subject editedMath = Subject.of("Math");
         assertTrue(eduDex.hasSubject(editedMath));
     }
 
@@ -114,12 +176,86 @@ public class EduDexTest {
         assertThrows(UnsupportedOperationException.class, () -> eduDex.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long version = eduDex.getVersion();
+        eduDex.addPerson(ALICE);
+        assertNotEquals(version, eduDex.getVersion());
+
+        version = eduDex.getVersion();
+        eduDex.addSubject(MATH);
+        assertNotEquals(version, eduDex.getVersion());
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        eduDex.addPerson(ALICE);
+        long version = eduDex.getVersion();
+        eduDex.hasPerson(ALICE);
+        eduDex.getPersonsWithSubject(MATH);
+        assertEquals(version, eduDex.getVersion());
+    }
+
+    @Test
+    public void snapshot_laterModifications_snapshotUnchanged() {
+        EduDex typicalEduDex = getTypicalEduDex();
+        typicalEduDex.addSubject(MATH);
+        List<Person> persons = new ArrayList<>(typicalEduDex.getPersonList());
+
+        EduDexSnapshot snapshot = typicalEduDex.snapshot();
+        typicalEduDex.addPerson(HOON);
+        typicalEduDex.removePerson(ALICE);
+        typicalEduDex.removeSubject(MATH);
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(List.of(MATH), snapshot.getSubjectList());
+        assertNotEquals(typicalEduDex.getVersion(), snapshot.getVersion());
+        assertEquals(getTypicalEduDexWithMath(), new EduDex(snapshot));
+        assertSame(snapshot, snapshot.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void restore_snapshot_listsSharedAndIndexesRebuilt() {
+        eduDex.addSubject(MATH);
+        eduDex.addPerson(BENSON);
+        Subject bensonSubject = BENSON.getLessons().get(0).getSubject();
+        EduDexSnapshot snapshot = eduDex.snapshot();
+        eduDex.removePerson(BENSON);
+        eduDex.addPerson(HOON);
+        eduDex.removeSubject(MATH);
+
+        eduDex.restore(snapshot);
+        assertSame(snapshot.getPersons(), eduDex.snapshot().getPersons());
+        assertSame(snapshot.getSubjects(), eduDex.snapshot().getSubjects());
+        assertTrue(eduDex.hasPerson(BENSON));
+        assertFalse(eduDex.hasPerson(HOON));
+        assertEquals(Set.of(BENSON), eduDex.getPersonsWithSubject(bensonSubject));
+    }
+
+    @Test
+    public void snapshot_otherReadOnlyEduDex_copied() {
+        EduDexStub stub = new EduDexStub(List.of(ALICE), List.of(MATH));
+
+        EduDexSnapshot snapshot = stub.snapshot();
+        stub.getPersonList().clear();
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(MATH), snapshot.getSubjectList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = EduDex.class.getCanonicalName() + "{persons=" + eduDex.getPersonList() + "}";
         assertEquals(expected, eduDex.toString());
     }
 
+    private static EduDex getTypicalEduDexWithMath() {
+        EduDex typicalEduDex = getTypicalEduDex();
+        typicalEduDex.addSubject(MATH);
+        return typicalEduDex;
+    }
+
     /**
      * A stub ReadOnlyEduDex whose persons list can violate interface constraints.
      */
@@ -141,5 +277,10 @@ public class EduDexTest {
         public ObservableList<Subject> getSubjectList() {
             return subjects;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
@@ -3,6 +3,7 @@ package seedu.edudex.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.edudex.testutil.Assert.assertThrows;
@@ -19,14 +20,18 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.core.GuiSettings;
+import seedu.edudex.commons.core.index.Index;
 import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.PersonSubjectView;
 import seedu.edudex.model.person.Time;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.EduDexBuilder;
 import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.LessonReadCountingPerson;
+import seedu.edudex.testutil.NameReadCountingPerson;
 import seedu.edudex.testutil.PersonBuilder;
 
 public class ModelManagerTest {
@@ -158,20 +163,18 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void sortLessonsForEachPerson_sortsChronologically_success() {
+    public void getFilteredPersonList_lessonsAddedOutOfOrder_shownChronologically() {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
 
         Person student = new PersonBuilder().withName("Alice").build();
-        Lesson l1 = new Lesson(new Subject("Math"), new Day("Friday"),
+        Lesson l1 = new Lesson(Subject.of("Math"), Day.of("Friday"),
                 new Time("15:00"), new Time("16:00"));
-        Lesson l2 = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson l2 = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
-        student.setLessons(List.of(l1, l2));
+        student = student.withLessons(List.of(l1, l2));
 
         model.addPerson(student);
 
-        model.sortLessonsForEachPerson();
-
         assertEquals("Monday",
                 model.getFilteredPersonList().get(0).getLessons().get(0).getDay().toString());
     }
@@ -181,19 +184,19 @@ public class ModelManagerTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
 
         Person student1 = new PersonBuilder().withName("Alice").build();
-        Lesson l1 = new Lesson(new Subject("Math"), new Day("Friday"),
+        Lesson l1 = new Lesson(Subject.of("Math"), Day.of("Friday"),
                 new Time("15:00"), new Time("16:00"));
-        student1.setLessons(List.of(l1));
+        student1 = student1.withLessons(List.of(l1));
 
         Person student2 = new PersonBuilder().withName("Bob").build();
-        Lesson l2 = new Lesson(new Subject("Science"), new Day("Friday"),
+        Lesson l2 = new Lesson(Subject.of("Science"), Day.of("Friday"),
                 new Time("15:30"), new Time("16:30"));
-        student2.setLessons(List.of(l2));
+        student2 = student2.withLessons(List.of(l2));
 
         model.addPerson(student1);
         model.addPerson(student2);
 
-        Lesson newLesson = new Lesson(new Subject("English"), new Day("Monday"),
+        Lesson newLesson = new Lesson(Subject.of("English"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
 
         assertNull(model.findPersonWithLessonConflict(newLesson, student1));
@@ -206,19 +209,19 @@ public class ModelManagerTest {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
 
         Person student1 = new PersonBuilder().withName("Alice").build();
-        Lesson l1 = new Lesson(new Subject("Math"), new Day("Friday"),
+        Lesson l1 = new Lesson(Subject.of("Math"), Day.of("Friday"),
                 new Time("15:00"), new Time("16:00"));
-        student1.setLessons(List.of(l1));
+        student1 = student1.withLessons(List.of(l1));
 
         Person student2 = new PersonBuilder().withName("Bob").build();
-        Lesson l2 = new Lesson(new Subject("Science"), new Day("Friday"),
+        Lesson l2 = new Lesson(Subject.of("Science"), Day.of("Friday"),
                 new Time("15:30"), new Time("16:30"));
-        student2.setLessons(List.of(l2));
+        student2 = student2.withLessons(List.of(l2));
 
         model.addPerson(student1);
         model.addPerson(student2);
 
-        Lesson newLesson = new Lesson(new Subject("English"), new Day("Friday"),
+        Lesson newLesson = new Lesson(Subject.of("English"), Day.of("Friday"),
                 new Time("15:15"), new Time("16:15"));
 
         assertEquals(student1, model.findPersonWithLessonConflict(newLesson, student2));
@@ -235,7 +238,7 @@ public class ModelManagerTest {
         edudex.addPerson(mathStudent);
 
         ModelManager model = new ModelManager(edudex, new UserPrefs());
-        model.sortLessonsForEachPersonBySubject("math");
+        model.updateFilteredPersonListBySubject(Subject.of("math"));
 
         ObservableList<Person> result = model.getFilteredPersonList();
         assertTrue(result.stream().allMatch(person ->
@@ -243,6 +246,114 @@ public class ModelManagerTest {
                         lesson.getSubject().getSubjectAsString().equalsIgnoreCase("math"))));
     }
 
+    @Test
+    public void updateFilteredPersonListBySubject_personsChanged_viewsKeptUpToDate() {
+        Lesson mathLesson = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+        Lesson scienceLesson = new LessonBuilder().withSubject("Science").withDay("Tuesday").build();
+        Person alice = new PersonBuilder(ALICE).withLessons(List.of(mathLesson, scienceLesson)).build();
+        Person benson = new PersonBuilder(BENSON).withLessons(List.of(scienceLesson)).build();
+        ModelManager model = new ModelManager(new EduDexBuilder().withPerson(alice).withPerson(benson).build(),
+                new UserPrefs());
+
+        Subject math = Subject.of("Math");
+        model.updateFilteredPersonListBySubject(math);
+        assertEquals(List.of(new PersonSubjectView(alice, math)), model.getDisplayedPersonList());
+        assertEquals(List.of(mathLesson), model.getDisplayedPersonList().get(0).getLessons());
+
+        // person given a lesson of the subject -> shown, with only that lesson
+        Lesson laterMathLesson = new LessonBuilder().withSubject("Math").withDay("Friday").build();
+        Person editedBenson = benson.withAddedLesson(laterMathLesson);
+        model.setPerson(benson, editedBenson);
+        assertEquals(List.of(new PersonSubjectView(alice, math), new PersonSubjectView(editedBenson, math)),
+                model.getDisplayedPersonList());
+        assertEquals(List.of(laterMathLesson), model.getDisplayedPersonList().get(1).getLessons());
+
+        // person edited -> view of the edited person
+        Person editedAlice = alice.withoutLesson(Index.fromOneBased(1));
+        model.setPerson(alice, editedAlice);
+        assertEquals(List.of(new PersonSubjectView(editedBenson, math)), model.getDisplayedPersonList());
+
+        // filtered again -> all lessons shown
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(scienceLesson, laterMathLesson),
+                model.getDisplayedPersonList().get(1).getLessons());
+    }
+
+    @Test
+    public void getFilteredPersonList_subjectShown_personsWithAllLessons() {
+        Lesson mathLesson = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+        Lesson scienceLesson = new LessonBuilder().withSubject("Science").withDay("Tuesday").build();
+        Person alice = new PersonBuilder(ALICE).withLessons(List.of(mathLesson, scienceLesson)).build();
+        ModelManager model = new ModelManager(new EduDexBuilder().withPerson(alice).build(), new UserPrefs());
+        model.updateFilteredPersonListBySubject(Subject.of("Math"));
+
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+        assertSame(model.getFilteredPersonList().get(0), model.getDisplayedPersonList().get(0).getPerson());
+
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        assertFalse(model.hasPerson(alice));
+        assertEquals(List.of(), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListBySubject_otherPersons_notTested() {
+        Person mathStudent = new PersonBuilder(ALICE)
+                .withLessons(List.of(new LessonBuilder().withSubject("Math").build())).build();
+        LessonReadCountingPerson scienceStudent = new LessonReadCountingPerson(new PersonBuilder(BENSON)
+                .withLessons(List.of(new LessonBuilder().withSubject("Science").build())).build());
+        ModelManager model = new ModelManager(
+                new EduDexBuilder().withPerson(mathStudent).withPerson(scienceStudent).build(), new UserPrefs());
+        scienceStudent.resetLessonReads();
+
+        model.updateFilteredPersonListBySubject(Subject.of("Math"));
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(mathStudent.getName(), model.getFilteredPersonList().get(0).getName());
+        // the persons are looked up in the subject index rather than by testing the lessons of every person
+        assertEquals(0, scienceStudent.getLessonReads());
+    }
+
+
+    @Test
+    public void updateFilteredPersonListByName_otherPersons_notTested() {
+        NameReadCountingPerson benson = new NameReadCountingPerson(BENSON);
+        ModelManager model = new ModelManager(
+                new EduDexBuilder().withPerson(ALICE).withPerson(benson).build(), new UserPrefs());
+        benson.resetNameReads();
+
+        model.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("ali")));
+
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        assertEquals(0, benson.getNameReads());
+
+        // person renamed to match -> shown
+        Person editedBenson = new PersonBuilder(BENSON).withName("Alicia Meier").build();
+        model.setPerson(benson, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByDay_otherPersons_notTested() {
+        Person mondayStudent = new PersonBuilder(ALICE)
+                .withLessons(List.of(new LessonBuilder().withDay("Monday").build())).build();
+        LessonReadCountingPerson tuesdayStudent = new LessonReadCountingPerson(new PersonBuilder(BENSON)
+                .withLessons(List.of(new LessonBuilder().withDay("Tuesday").build())).build());
+        ModelManager model = new ModelManager(
+                new EduDexBuilder().withPerson(mondayStudent).withPerson(tuesdayStudent).build(), new UserPrefs());
+        tuesdayStudent.resetLessonReads();
+
+        model.updateFilteredPersonListByDay(Day.of("Monday"));
+
+        assertEquals(List.of(mondayStudent), model.getFilteredPersonList());
+        assertEquals(0, tuesdayStudent.getLessonReads());
+
+        // person given a lesson on the day -> shown
+        Person editedBenson = new PersonBuilder(BENSON)
+                .withLessons(List.of(new LessonBuilder().withDay("Monday").withStartTime("15:00")
+                        .withEndTime("16:00").build())).build();
+        model.setPerson(tuesdayStudent, editedBenson);
+        assertEquals(List.of(mondayStudent, editedBenson), model.getFilteredPersonList());
+    }
 
     @Test
     public void getFilteredPersonList_returnsSortedPersonsWhenNotFiltered() {
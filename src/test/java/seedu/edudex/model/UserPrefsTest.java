@@ -1,9 +1,13 @@
 package seedu.edudex.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.edudex.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +22,19 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setEduDexFilePath(null));
     }
 
+    @Test
+    public void setEduDexFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setEduDexFileFormat(null));
+    }
+
+    @Test
+    public void equals_differentFileFormat_returnsFalse() {
+        UserPrefs binaryPrefs = new UserPrefs();
+        binaryPrefs.setEduDexFileFormat(DataFileFormat.BINARY);
+        assertEquals(DataFileFormat.JSON, new UserPrefs().getEduDexFileFormat());
+        assertNotEquals(new UserPrefs(), binaryPrefs);
+        assertEquals(binaryPrefs, new UserPrefs(binaryPrefs));
+    }
+
 }
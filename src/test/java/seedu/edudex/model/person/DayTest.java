@@ -0,0 +1,61 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.Test;
+
+public class DayTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Day.of((String) null));
+        assertThrows(NullPointerException.class, () -> Day.of((DayOfWeek) null));
+    }
+
+    @Test
+    public void of_invalidDay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Day.of(""));
+        assertThrows(IllegalArgumentException.class, () -> Day.of("Mon"));
+    }
+
+    @Test
+    public void of_validDay_returnsSharedInstance() {
+        assertSame(Day.of("Monday"), Day.of("mOnDaY"));
+        assertSame(Day.of("Sunday"), Day.of(DayOfWeek.SUNDAY));
+        assertSame(Day.of("Friday"), Day.of("Friday").getCopyOfDay());
+    }
+
+    @Test
+    public void isValidDay() {
+        assertFalse(Day.isValidDay(null));
+        assertFalse(Day.isValidDay("Funday"));
+        assertTrue(Day.isValidDay("wednesday"));
+    }
+
+    @Test
+    public void getNumericValue() {
+        assertEquals(1, Day.of("Monday").getNumericValue());
+        assertEquals(7, Day.of("Sunday").getNumericValue());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Thursday", Day.of("THURSDAY").toString());
+    }
+
+    @Test
+    public void equals() {
+        Day monday = Day.of("Monday");
+        assertTrue(monday.equals(Day.of("monday")));
+        assertFalse(monday.equals(null));
+        assertFalse(monday.equals("Monday"));
+        assertNotEquals(monday, Day.of("Tuesday"));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class LessonAttributeIndexTest {
+
+    private static final Subject MATH = Subject.of("Math");
+    private static final Subject SCIENCE = Subject.of("Science");
+
+    private static final Lesson MATH_MONDAY = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+    private static final Lesson MATH_TUESDAY = new LessonBuilder().withSubject("Math").withDay("Tuesday").build();
+    private static final Lesson SCIENCE_MONDAY = new LessonBuilder().withSubject("Science").withDay("Monday").build();
+
+    private final LessonAttributeIndex<Subject> index = new LessonAttributeIndex<>(Lesson::getSubject);
+
+    private final Person alice = new PersonBuilder().withName("Alice")
+            .withLessons(List.of(MATH_MONDAY, MATH_TUESDAY)).build();
+    private final Person bob = new PersonBuilder().withName("Bob")
+            .withLessons(List.of(SCIENCE_MONDAY, MATH_TUESDAY)).build();
+
+    @Test
+    public void constructor_nullKeyExtractor_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LessonAttributeIndex<Subject>(null));
+    }
+
+    @Test
+    public void getPersons_noPersons_returnsEmptySet() {
+        assertTrue(index.getPersons(MATH).isEmpty());
+    }
+
+    @Test
+    public void getPersons_indexedPersons_returnsPersonsInIndexedOrder() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(List.of(alice, bob), List.copyOf(index.getPersons(MATH)));
+        assertEquals(Set.of(bob), index.getPersons(SCIENCE));
+    }
+
+    @Test
+    public void getPersons_modifyView_throwsUnsupportedOperationException() {
+        index.add(alice);
+        assertThrows(UnsupportedOperationException.class, () -> index.getPersons(MATH).remove(alice));
+    }
+
+    @Test
+    public void remove_person_dropsPersonFromEveryKey() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(bob);
+        assertEquals(Set.of(alice), index.getPersons(MATH));
+        assertTrue(index.getPersons(SCIENCE).isEmpty());
+    }
+
+    @Test
+    public void remove_personWithSeveralLessonsForKey_dropsPerson() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(alice);
+        assertEquals(Set.of(bob), index.getPersons(MATH));
+    }
+
+    @Test
+    public void getPersons_unindexedKey_keyNotAdded() {
+        index.getPersons(MATH);
+        assertEquals(0, index.getKeyCount());
+    }
+
+    @Test
+    public void remove_lastPersonWithKey_keyDropped() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(2, index.getKeyCount());
+
+        index.remove(bob);
+        assertEquals(1, index.getKeyCount());
+
+        // removing a person who is not indexed has no effect
+        index.remove(bob);
+        assertEquals(Set.of(alice), index.getPersons(MATH));
+
+        index.remove(alice);
+        assertEquals(0, index.getKeyCount());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class LessonConflictIndexTest {
+
+    private static final Lesson FRIDAY_AFTERNOON = new LessonBuilder().withDay("Friday")
+            .withStartTime("15:00").withEndTime("16:00").build();
+    private static final Lesson FRIDAY_LONG = new LessonBuilder().withSubject("Science").withDay("Friday")
+            .withStartTime("08:00").withEndTime("14:00").build();
+
+    private final LessonConflictIndex index = new LessonConflictIndex();
+
+    private final Person alice = new PersonBuilder().withName("Alice").withLessons(List.of(FRIDAY_AFTERNOON)).build();
+    private final Person bob = new PersonBuilder().withName("Bob").withLessons(List.of(FRIDAY_LONG)).build();
+
+    @Test
+    public void findPersonWithConflict_nullLesson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findPersonWithConflict(null, alice));
+    }
+
+    @Test
+    public void findPersonWithConflict_emptyIndex_returnsNull() {
+        assertNull(index.findPersonWithConflict(FRIDAY_AFTERNOON, null));
+    }
+
+    @Test
+    public void findPersonWithConflict_overlappingLesson_returnsPerson() {
+        index.add(alice);
+        index.add(bob);
+
+        Lesson overlapsAliceEnd = new LessonBuilder().withDay("Friday")
+                .withStartTime("15:59").withEndTime("17:00").build();
+        assertEquals(alice, index.findPersonWithConflict(overlapsAliceEnd, null));
+
+        // lesson starting long before the query but still running is found
+        Lesson overlapsBobEnd = new LessonBuilder().withDay("Friday")
+                .withStartTime("13:30").withEndTime("14:30").build();
+        assertEquals(bob, index.findPersonWithConflict(overlapsBobEnd, null));
+    }
+
+    @Test
+    public void findPersonWithConflict_subMinuteOverlap_returnsPerson() {
+        index.add(alice);
+
+        Lesson withinOneMinute = new LessonBuilder().withDay("Friday")
+                .withStartTime("15:59:30").withEndTime("15:59:50").build();
+        assertEquals(alice, index.findPersonWithConflict(withinOneMinute, null));
+
+        Lesson startsJustAfterAlice = new LessonBuilder().withDay("Friday")
+                .withStartTime("16:00:00").withEndTime("16:00:30").build();
+        assertNull(index.findPersonWithConflict(startsJustAfterAlice, null));
+    }
+
+    @Test
+    public void findPersonWithConflict_adjacentOrOtherDayLesson_returnsNull() {
+        index.add(alice);
+        index.add(bob);
+
+        Lesson betweenLessons = new LessonBuilder().withDay("Friday")
+                .withStartTime("14:00").withEndTime("15:00").build();
+        assertNull(index.findPersonWithConflict(betweenLessons, null));
+
+        Lesson otherDay = new LessonBuilder(FRIDAY_AFTERNOON).withDay("Monday").build();
+        assertNull(index.findPersonWithConflict(otherDay, null));
+    }
+
+    @Test
+    public void findPersonWithConflict_identicalLesson_returnsNull() {
+        index.add(alice);
+        assertNull(index.findPersonWithConflict(new LessonBuilder(FRIDAY_AFTERNOON).build(), null));
+    }
+
+    @Test
+    public void findPersonWithConflict_excludedPerson_returnsNull() {
+        index.add(alice);
+        Lesson overlapping = new LessonBuilder(FRIDAY_AFTERNOON).withSubject("English").build();
+        assertNull(index.findPersonWithConflict(overlapping, alice));
+    }
+
+    @Test
+    public void remove_person_lessonsNoLongerConflict() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(bob);
+
+        Lesson overlapsBob = new LessonBuilder(FRIDAY_LONG).withSubject("English").build();
+        assertNull(index.findPersonWithConflict(overlapsBob, null));
+        Lesson overlapsAlice = new LessonBuilder(FRIDAY_AFTERNOON).withSubject("English").build();
+        assertEquals(alice, index.findPersonWithConflict(overlapsAlice, null));
+    }
+}
@@ -11,10 +11,10 @@ import seedu.edudex.model.subject.Subject;
 
 public class LessonTest {
     // Reusable test data
-    private final Subject subjectMath = new Subject("Math");
-    private final Subject subjectScience = new Subject("Science");
-    private final Day dayMonday = new Day("Monday");
-    private final Day dayTuesday = new Day("Tuesday");
+    private final Subject subjectMath = Subject.of("Math");
+    private final Subject subjectScience = Subject.of("Science");
+    private final Day dayMonday = Day.of("Monday");
+    private final Day dayTuesday = Day.of("Tuesday");
     private final Time time0900 = new Time("09:00");
     private final Time time0930 = new Time("09:30");
     private final Time time1000 = new Time("10:00");
@@ -53,6 +53,52 @@ public class LessonTest {
         assertFalse(Lesson.isValidStartEndTime(new Time("09:00"), new Time("09:00")));
     }
 
+    @Test
+    public void getNanoOfWeek() {
+        long nanosPerMinute = 60_000_000_000L;
+        Lesson mondayLesson = new Lesson(subjectMath, dayMonday, time0900, time1000);
+        assertEquals(9 * 60 * nanosPerMinute, mondayLesson.getStartNanoOfWeek());
+        assertEquals(10 * 60 * nanosPerMinute, mondayLesson.getEndNanoOfWeek());
+
+        Lesson sundayLesson = new Lesson(subjectMath, Day.of("Sunday"), new Time("23:00"), new Time("23:59:59"));
+        assertEquals(6 * Lesson.NANOS_PER_DAY + 23 * 60 * nanosPerMinute, sundayLesson.getStartNanoOfWeek());
+        assertEquals(7 * Lesson.NANOS_PER_DAY - 1_000_000_000L, sundayLesson.getEndNanoOfWeek());
+    }
+
+    @Test
+    public void conflictsWith_timesWithSeconds_comparedToTheSecond() {
+        Lesson endsAfterTen = new Lesson(subjectMath, dayMonday, time0900, new Time("10:00:10"));
+        Lesson startsAfterTen = new Lesson(subjectMath, dayMonday, new Time("10:00:30"), time1100);
+        Lesson withinOneMinute = new Lesson(subjectMath, dayMonday, new Time("10:00:30"), new Time("10:00:50"));
+
+        // lessons overlapping within the same minute -> conflict
+        assertTrue(endsAfterTen.conflictsWith(new Lesson(subjectMath, dayMonday, new Time("10:00:05"), time1100)));
+        assertTrue(withinOneMinute.conflictsWith(startsAfterTen));
+        assertTrue(withinOneMinute.conflictsWith(new Lesson(subjectMath, dayMonday, time1000, new Time("10:00:40"))));
+
+        // lessons apart by less than a minute -> no conflict
+        assertFalse(endsAfterTen.conflictsWith(startsAfterTen));
+        assertFalse(endsAfterTen.conflictsWith(withinOneMinute));
+    }
+
+    @Test
+    public void chronologicalOrder() {
+        Lesson mondayLate = new Lesson(subjectMath, dayMonday, time1000, time1100);
+        Lesson mondayEarly = new Lesson(subjectScience, dayMonday, time0900, time1000);
+        Lesson tuesdayEarly = new Lesson(subjectMath, dayTuesday, time0900, time1000);
+
+        assertTrue(Lesson.CHRONOLOGICAL_ORDER.compare(mondayEarly, mondayLate) < 0);
+        assertTrue(Lesson.CHRONOLOGICAL_ORDER.compare(mondayLate, tuesdayEarly) < 0);
+
+        // lessons starting together -> ordered by end time, then by subject
+        assertTrue(Lesson.CHRONOLOGICAL_ORDER.compare(mondayEarly,
+                new Lesson(subjectMath, dayMonday, time0900, time1100)) < 0);
+        assertTrue(Lesson.CHRONOLOGICAL_ORDER.compare(new Lesson(subjectMath, dayMonday, time0900, time1000),
+                mondayEarly) < 0);
+        assertEquals(0, Lesson.CHRONOLOGICAL_ORDER.compare(mondayEarly,
+                new Lesson(subjectScience, dayMonday, time0900, time1000)));
+    }
+
     @Test
     public void equals() {
         Lesson lesson = new Lesson(subjectMath, dayMonday, time0900, time1000);
@@ -0,0 +1,78 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.testutil.PersonBuilder;
+
+public class NamePrefixTrieTest {
+
+    private final NamePrefixTrie trie = new NamePrefixTrie();
+
+    @Test
+    public void findPersonsWithWordStartingWith_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.findPersonsWithWordStartingWith(null));
+    }
+
+    @Test
+    public void findPersonsWithWordStartingWith_emptyTrie_returnsEmptySet() {
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithWordStartingWith_prefixOfAnyWord_returnsPersons() {
+        // ALICE is "Alice Pauline", BENSON is "Benson Meier", CARL is "Carl Kurz"
+        trie.add(ALICE);
+        trie.add(BENSON);
+        trie.add(CARL);
+
+        // whole word, mixed case
+        assertEquals(Set.of(ALICE), trie.findPersonsWithWordStartingWith(List.of("aLIce")));
+        // prefix of a later word
+        assertEquals(Set.of(BENSON), trie.findPersonsWithWordStartingWith(List.of("Mei")));
+        // multiple prefixes
+        assertEquals(Set.of(ALICE, CARL), trie.findPersonsWithWordStartingWith(List.of("Pau", "Ku")));
+        // not at the start of a word
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("lice")).isEmpty());
+        // longer than any word
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("Alicea")).isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithWordStartingWith_personWithRepeatedWord_returnsPersonOnce() {
+        Person person = new PersonBuilder().withName("Ann Ann Lee").build();
+        trie.add(person);
+        assertEquals(Set.of(person), trie.findPersonsWithWordStartingWith(List.of("An", "Ann")));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        Person alexander = new PersonBuilder().withName("Alexander Tan").build();
+        trie.add(alex);
+        trie.add(alexander);
+
+        trie.remove(alexander);
+        assertEquals(Set.of(alex), trie.findPersonsWithWordStartingWith(List.of("Alex")));
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("Alexa", "Tan")).isEmpty());
+
+        trie.remove(alex);
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("A")).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        trie.add(ALICE);
+        trie.clear();
+        assertTrue(trie.findPersonsWithWordStartingWith(List.of("Alice")).isEmpty());
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.edudex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getCaseFoldedWords() {
+        assertEquals(List.of("alex"), new Name("ALEX").getCaseFoldedWords());
+        assertEquals(List.of("capital", "tan"), new Name("Capital  Tan").getCaseFoldedWords());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
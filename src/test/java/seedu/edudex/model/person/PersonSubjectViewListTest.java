@@ -0,0 +1,89 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class PersonSubjectViewListTest {
+
+    private static final Subject MATH = Subject.of("Math");
+
+    private final Lesson mathLesson = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+    private final Lesson scienceLesson = new LessonBuilder().withSubject("Science").withDay("Tuesday").build();
+    private final Person alice = new PersonBuilder(ALICE).withLessons(List.of(mathLesson, scienceLesson)).build();
+    private final Person benson = new PersonBuilder(BENSON).withLessons(List.of(mathLesson)).build();
+    private final ObservableList<Person> source = FXCollections.observableArrayList(List.of(alice, benson));
+    private final PersonSubjectViewList viewList = new PersonSubjectViewList(source);
+
+    @Test
+    public void constructor_noSubject_allLessonsShown() {
+        assertNull(viewList.getSubject());
+        assertEquals(List.of(new PersonSubjectView(alice), new PersonSubjectView(benson)), viewList);
+        assertSame(alice, viewList.get(0).getPerson());
+        assertEquals(alice.getLessons(), viewList.get(0).getLessons());
+    }
+
+    @Test
+    public void setSubject_showsViewsOfSubject() {
+        viewList.setSubject(MATH);
+
+        assertEquals(MATH, viewList.getSubject());
+        assertEquals(List.of(new PersonSubjectView(alice, MATH), new PersonSubjectView(benson, MATH)), viewList);
+        assertEquals(List.of(mathLesson), viewList.get(0).getLessons());
+
+        viewList.setSubject(null);
+        assertEquals(new PersonSubjectView(alice), viewList.get(0));
+    }
+
+    @Test
+    public void setSubject_listenersNotified() {
+        List<PersonSubjectView> notifiedContents = new ArrayList<>();
+        viewList.addListener((ListChangeListener<PersonSubjectView>) change -> {
+            notifiedContents.clear();
+            notifiedContents.addAll(change.getList());
+        });
+
+        viewList.setSubject(MATH);
+
+        assertEquals(List.of(new PersonSubjectView(alice, MATH), new PersonSubjectView(benson, MATH)),
+                notifiedContents);
+    }
+
+    @Test
+    public void sourceChanged_viewsKeptInStep() {
+        viewList.setSubject(MATH);
+
+        // person added -> view of the person added
+        Person carl = new PersonBuilder(CARL).withLessons(List.of(mathLesson)).build();
+        source.add(carl);
+        assertEquals(List.of(new PersonSubjectView(alice, MATH), new PersonSubjectView(benson, MATH),
+                new PersonSubjectView(carl, MATH)), viewList);
+        assertSame(carl, viewList.get(2).getPerson());
+
+        // person replaced -> view of the new person
+        Person editedAlice = alice.withLessons(List.of(scienceLesson));
+        source.set(0, editedAlice);
+        assertEquals(List.of(new PersonSubjectView(editedAlice, MATH), new PersonSubjectView(benson, MATH),
+                new PersonSubjectView(carl, MATH)), viewList);
+        assertEquals(List.of(), viewList.get(0).getLessons());
+
+        // person removed
+        source.remove(benson);
+        assertEquals(List.of(new PersonSubjectView(editedAlice, MATH), new PersonSubjectView(carl, MATH)), viewList);
+    }
+}
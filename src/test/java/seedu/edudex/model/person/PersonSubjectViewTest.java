@@ -0,0 +1,101 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.core.index.Index;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class PersonSubjectViewTest {
+
+    private static final Subject MATH = Subject.of("Math");
+
+    private final Lesson mondayMath = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+    private final Lesson tuesdayScience = new LessonBuilder().withSubject("Science").withDay("Tuesday").build();
+    private final Lesson fridayMath = new LessonBuilder().withSubject("Math").withDay("Friday").build();
+    private final Person person = new PersonBuilder(ALICE)
+            .withLessons(List.of(fridayMath, tuesdayScience, mondayMath)).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSubjectView(null, MATH));
+        assertThrows(NullPointerException.class, () -> new PersonSubjectView(person, null));
+    }
+
+    @Test
+    public void getLessons_showsOnlyLessonsOfSubject() {
+        PersonSubjectView view = new PersonSubjectView(person, MATH);
+
+        assertEquals(MATH, view.getSubject());
+        assertEquals(List.of(mondayMath, fridayMath), view.getLessons());
+        assertEquals("1. " + mondayMath + "\n2. " + fridayMath, view.getLessonsAsString());
+        assertThrows(UnsupportedOperationException.class, () -> view.getLessons().remove(0));
+    }
+
+    @Test
+    public void getLessons_noLessonsOfSubject_empty() {
+        PersonSubjectView view = new PersonSubjectView(person, Subject.of("English"));
+        assertEquals(List.of(), view.getLessons());
+    }
+
+    @Test
+    public void getLessons_noSubject_showsAllLessons() {
+        PersonSubjectView view = new PersonSubjectView(person);
+
+        assertNull(view.getSubject());
+        assertSame(person.getLessons(), view.getLessons());
+        assertEquals(person.getLessonsAsString(), view.getLessonsAsString());
+    }
+
+    @Test
+    public void getPerson_returnsPersonWithAllLessons() {
+        assertSame(person, new PersonSubjectView(person, MATH).getPerson());
+        assertSame(person, new PersonSubjectView(person).getPerson());
+    }
+
+    @Test
+    public void toPersonLessonIndex_indexOfShownLesson_indexOfThatLessonInPerson() {
+        PersonSubjectView view = new PersonSubjectView(person, MATH);
+
+        assertEquals(Index.fromOneBased(1), view.toPersonLessonIndex(Index.fromOneBased(1)));
+        assertEquals(Index.fromOneBased(3), view.toPersonLessonIndex(Index.fromOneBased(2)));
+        assertEquals(fridayMath, person.getLessons().get(view.toPersonLessonIndex(Index.fromOneBased(2)).getZeroBased()));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.toPersonLessonIndex(Index.fromOneBased(3)));
+
+        // all lessons shown -> same index
+        PersonSubjectView allLessonsView = new PersonSubjectView(person);
+        assertEquals(Index.fromOneBased(2), allLessonsView.toPersonLessonIndex(Index.fromOneBased(2)));
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                allLessonsView.toPersonLessonIndex(Index.fromOneBased(4)));
+    }
+
+    @Test
+    public void equals() {
+        PersonSubjectView view = new PersonSubjectView(person, MATH);
+
+        // same person and subject -> returns true
+        assertEquals(new PersonSubjectView(person, MATH), view);
+        assertEquals(new PersonSubjectView(person, MATH).hashCode(), view.hashCode());
+        assertEquals(new PersonSubjectView(person), new PersonSubjectView(person));
+
+        // person itself -> returns false
+        assertFalse(view.equals(person));
+
+        // different subject -> returns false
+        assertFalse(view.equals(new PersonSubjectView(person, Subject.of("Science"))));
+        assertFalse(view.equals(new PersonSubjectView(person)));
+
+        // different person -> returns false
+        assertFalse(view.equals(new PersonSubjectView(person.withoutLesson(Index.fromOneBased(1)), MATH)));
+    }
+}
@@ -17,26 +17,89 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.edudex.commons.core.index.Index;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.PersonBuilder;
 
 public class PersonTest {
     // Reusable lesson data for tests
-    private final Lesson lessonMathMonday = new Lesson(new Subject("Math"), new Day("Monday"),
+    private final Lesson lessonMathMonday = new Lesson(Subject.of("Math"), Day.of("Monday"),
             new Time("09:00"), new Time("10:00"));
-    private final Lesson lessonScienceTuesday = new Lesson(new Subject("Science"), new Day("Tuesday"),
+    private final Lesson lessonScienceTuesday = new Lesson(Subject.of("Science"), Day.of("Tuesday"),
             new Time("10:00"), new Time("11:00"));
-    private final Lesson lessonMathWednesday = new Lesson(new Subject("Math"), new Day("Wednesday"),
+    private final Lesson lessonMathWednesday = new Lesson(Subject.of("Math"), Day.of("Wednesday"),
             new Time("11:00"), new Time("12:00"));
 
     @Test
     public void addLesson() {
         Person person = new PersonBuilder().build(); // build person with empty lesson list
-        person.addLesson(lessonMathMonday);
+        person = person.withAddedLesson(lessonMathMonday);
         assertTrue(person.getLessons().contains(lessonMathMonday));
         assertEquals(1, person.getLessons().size());
     }
 
+    @Test
+    public void getLessons_lessonsGivenOutOfOrder_chronologicalAndUnmodifiable() {
+        Person person = new PersonBuilder()
+                .withLessons(List.of(lessonMathWednesday, lessonMathMonday, lessonScienceTuesday)).build();
+
+        assertEquals(List.of(lessonMathMonday, lessonScienceTuesday, lessonMathWednesday), person.getLessons());
+        assertThrows(UnsupportedOperationException.class, () -> person.getLessons().remove(0));
+    }
+
+    @Test
+    public void withAddedLesson_keepsOrderAndOriginalUnchanged() {
+        Person original = new PersonBuilder().withLessons(List.of(lessonMathMonday, lessonMathWednesday)).build();
+
+        Person updated = original.withAddedLesson(lessonScienceTuesday);
+
+        assertEquals(List.of(lessonMathMonday, lessonScienceTuesday, lessonMathWednesday), updated.getLessons());
+        assertEquals(List.of(lessonMathMonday, lessonMathWednesday), original.getLessons());
+        assertEquals(new PersonBuilder()
+                .withLessons(List.of(lessonScienceTuesday, lessonMathWednesday, lessonMathMonday)).build(), updated);
+    }
+
+    @Test
+    public void withoutLesson_removesLessonAtIndex() {
+        Person person = new PersonBuilder()
+                .withLessons(List.of(lessonMathMonday, lessonScienceTuesday, lessonMathWednesday)).build();
+
+        assertEquals(List.of(lessonMathMonday, lessonMathWednesday),
+                person.withoutLesson(Index.fromOneBased(2)).getLessons());
+        assertThrows(IndexOutOfBoundsException.class, () -> person.withoutLesson(Index.fromOneBased(4)));
+    }
+
+    @Test
+    public void withEditedLesson_editedLessonMovesToItsPlace() {
+        Person person = new PersonBuilder()
+                .withLessons(List.of(lessonMathMonday, lessonScienceTuesday, lessonMathWednesday)).build();
+        Lesson sundayLesson = new Lesson(Subject.of("Math"), Day.of("Sunday"), new Time("09:00"), new Time("10:00"));
+
+        assertEquals(List.of(lessonScienceTuesday, lessonMathWednesday, sundayLesson),
+                person.withEditedLesson(Index.fromOneBased(1), sundayLesson).getLessons());
+    }
+
+    @Test
+    public void getEarliestLessonStartNanoOfWeek() {
+        // No lessons
+        Person person = new PersonBuilder().build();
+        assertEquals(Person.NO_LESSONS_SORT_KEY, person.getEarliestLessonStartNanoOfWeek());
+
+        // Lessons given at construction
+        person = new PersonBuilder().withLessons(List.of(lessonMathWednesday, lessonScienceTuesday)).build();
+        assertEquals(lessonScienceTuesday.getStartNanoOfWeek(), person.getEarliestLessonStartNanoOfWeek());
+
+        // Earlier lesson added
+        person = person.withAddedLesson(lessonMathMonday);
+        assertEquals(lessonMathMonday.getStartNanoOfWeek(), person.getEarliestLessonStartNanoOfWeek());
+
+        // Lessons replaced
+        person = person.withLessons(List.of(lessonMathWednesday));
+        assertEquals(lessonMathWednesday.getStartNanoOfWeek(), person.getEarliestLessonStartNanoOfWeek());
+        person = person.withLessons(List.of());
+        assertEquals(Person.NO_LESSONS_SORT_KEY, person.getEarliestLessonStartNanoOfWeek());
+    }
+
     @Test
     public void getLessonsAsString() {
         // No lessons
@@ -44,11 +107,11 @@ public class PersonTest {
         assertEquals("No lessons scheduled.", person.getLessonsAsString());
 
         // One lesson
-        person.addLesson(lessonMathMonday);
+        person = person.withAddedLesson(lessonMathMonday);
         assertEquals("1. " + lessonMathMonday.toString(), person.getLessonsAsString());
 
         // Multiple lessons
-        person.addLesson(lessonScienceTuesday);
+        person = person.withAddedLesson(lessonScienceTuesday);
         String expected = "1. " + lessonMathMonday.toString()
                 + "\n2. " + lessonScienceTuesday.toString();
         assertEquals(expected, person.getLessonsAsString());
@@ -62,16 +125,16 @@ public class PersonTest {
         assertTrue(person.getAllSubjects().isEmpty());
 
         // One lesson
-        person.addLesson(lessonMathMonday);
-        assertEquals(List.of(new Subject("Math")), person.getAllSubjects());
+        person = person.withAddedLesson(lessonMathMonday);
+        assertEquals(List.of(Subject.of("Math")), person.getAllSubjects());
 
         // Multiple lessons, one unique subject
-        person.addLesson(lessonMathWednesday);
-        assertEquals(List.of(new Subject("Math")), person.getAllSubjects());
+        person = person.withAddedLesson(lessonMathWednesday);
+        assertEquals(List.of(Subject.of("Math")), person.getAllSubjects());
 
         // Multiple lessons, multiple unique subjects
-        person.addLesson(lessonScienceTuesday);
-        List<Subject> expectedSubjects = List.of(new Subject("Math"), new Subject("Science"));
+        person = person.withAddedLesson(lessonScienceTuesday);
+        List<Subject> expectedSubjects = List.of(Subject.of("Math"), Subject.of("Science"));
         // Using containsAll and checking size to avoid order dependency in the test
         assertTrue(person.getAllSubjects().containsAll(expectedSubjects));
         assertEquals(2, person.getAllSubjects().size());
@@ -172,7 +235,7 @@ public class PersonTest {
     @Test
     public void hasLessonConflict() {
         Person person = new PersonBuilder().build();
-        person.addLesson(lessonMathMonday);
+        person = person.withAddedLesson(lessonMathMonday);
 
         // No conflict
         assertNull(person.hasLessonConflict(lessonScienceTuesday, null));
@@ -182,9 +245,49 @@ public class PersonTest {
         assertEquals(person.hasLessonConflict(lessonMathMonday, null), conflictedLesson);
 
         // Conflict with overlapping time
-        Lesson conflictingLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson conflictingLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("09:30"), new Time("10:30"));
         assertEquals(person.hasLessonConflict(conflictingLesson, null), conflictedLesson);
     }
 
+    @Test
+    public void hasLessonConflict_manyLessons_onlySameDayOverlapsFound() {
+        Lesson mondayEvening = new Lesson(Subject.of("Math"), Day.of("Monday"), new Time("18:00"), new Time("20:00"));
+        Lesson tuesdayMorning = new Lesson(Subject.of("Math"), Day.of("Tuesday"), new Time("08:00"),
+                new Time("09:00"));
+        Person person = new PersonBuilder().withLessons(List.of(lessonMathWednesday, mondayEvening,
+                lessonScienceTuesday, lessonMathMonday, tuesdayMorning)).build();
+
+        // overlaps the evening lesson, but not the morning lesson on the same day
+        Lesson mondayLate = new Lesson(Subject.of("Science"), Day.of("Monday"), new Time("19:30"),
+                new Time("21:00"));
+        assertEquals(mondayEvening, person.hasLessonConflict(mondayLate, null));
+
+        // between two lessons on the same day
+        assertNull(person.hasLessonConflict(new Lesson(Subject.of("Science"), Day.of("Tuesday"),
+                new Time("09:00"), new Time("10:00")), null));
+
+        // same time on a day without lessons
+        assertNull(person.hasLessonConflict(new Lesson(Subject.of("Math"), Day.of("Thursday"),
+                new Time("11:00"), new Time("12:00")), null));
+
+        // the lesson being edited is skipped
+        Lesson longerTuesday = new Lesson(Subject.of("Science"), Day.of("Tuesday"), new Time("10:00"),
+                new Time("11:30"));
+        assertNull(person.hasLessonConflict(longerTuesday, Index.fromOneBased(4)));
+        assertEquals(lessonScienceTuesday, person.hasLessonConflict(longerTuesday, Index.fromOneBased(3)));
+    }
+
+    @Test
+    public void hasLessonConflict_timesWithSeconds_subMinuteOverlapsFound() {
+        Lesson endsAfterTen = new Lesson(Subject.of("Math"), Day.of("Monday"), new Time("09:00"),
+                new Time("10:00:10"));
+        Person person = new PersonBuilder().withLessons(List.of(endsAfterTen)).build();
+
+        assertEquals(endsAfterTen, person.hasLessonConflict(new Lesson(Subject.of("Science"), Day.of("Monday"),
+                new Time("10:00:05"), new Time("10:00:08")), null));
+        assertNull(person.hasLessonConflict(new Lesson(Subject.of("Science"), Day.of("Monday"),
+                new Time("10:00:30"), new Time("11:00")), null));
+    }
+
 }
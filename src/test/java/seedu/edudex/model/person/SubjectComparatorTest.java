@@ -13,21 +13,40 @@ public class SubjectComparatorTest {
 
     @Test
     public void compare_personsSortedByEarliestLessonDayTime_success() {
-        Lesson mondayLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson mondayLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("08:00"), new Time("09:00"));
-        Lesson fridayLesson = new Lesson(new Subject("Science"), new Day("Friday"),
+        Lesson fridayLesson = new Lesson(Subject.of("Science"), Day.of("Friday"),
                 new Time("14:00"), new Time("15:00"));
 
         Person alice = new PersonBuilder().withName("Alice").build();
         Person bob = new PersonBuilder().withName("Bob").build();
-        alice.setLessons(List.of(mondayLesson));
-        bob.setLessons(List.of(fridayLesson));
+        alice = alice.withLessons(List.of(mondayLesson));
+        bob = bob.withLessons(List.of(fridayLesson));
 
         SubjectComparator comparator = new SubjectComparator();
         assertTrue(comparator.compare(alice, bob) < 0);
         assertTrue(comparator.compare(bob, alice) > 0);
     }
 
+    @Test
+    public void compare_severalLessons_comparedByEarliestLesson() {
+        Lesson mondayLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
+                new Time("18:00"), new Time("19:00"));
+        Lesson tuesdayLesson = new Lesson(Subject.of("Math"), Day.of("Tuesday"),
+                new Time("08:00"), new Time("09:00"));
+        Lesson sundayLesson = new Lesson(Subject.of("Science"), Day.of("Sunday"),
+                new Time("08:00"), new Time("09:00"));
+
+        Person alice = new PersonBuilder().withName("Alice").withLessons(List.of(sundayLesson, tuesdayLesson)).build();
+        Person bob = new PersonBuilder().withName("Bob").withLessons(List.of(sundayLesson, mondayLesson)).build();
+        Person carl = new PersonBuilder().withName("Carl").build();
+
+        SubjectComparator comparator = new SubjectComparator();
+        assertTrue(comparator.compare(bob, alice) < 0);
+        assertTrue(comparator.compare(alice, carl) < 0);
+        assertTrue(comparator.compare(carl, bob) > 0);
+    }
+
     @Test
     public void compare_noLessons_considersNullsProperly() {
         Person empty1 = new PersonBuilder().withName("A").build();
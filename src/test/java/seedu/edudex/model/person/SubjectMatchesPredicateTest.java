@@ -14,13 +14,13 @@ public class SubjectMatchesPredicateTest {
 
     @Test
     public void test_personHasMatchingSubject_returnsTrue() {
-        Lesson mathLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+        Lesson mathLesson = new Lesson(Subject.of("Math"), Day.of("Monday"),
                 new Time("10:00"), new Time("11:00"));
-        Lesson sciLesson = new Lesson(new Subject("Science"), new Day("Tuesday"),
+        Lesson sciLesson = new Lesson(Subject.of("Science"), Day.of("Tuesday"),
                 new Time("13:00"), new Time("14:00"));
 
         Person student = new PersonBuilder().withName("Alex").build();
-        student.setLessons(List.of(mathLesson, sciLesson));
+        student = student.withLessons(List.of(mathLesson, sciLesson));
 
         SubjectMatchesPredicate predicate = new SubjectMatchesPredicate("Math");
         assertTrue(predicate.test(student));
@@ -28,10 +28,10 @@ public class SubjectMatchesPredicateTest {
 
     @Test
     public void test_personHasNoMatchingSubject_returnsFalse() {
-        Lesson engLesson = new Lesson(new Subject("English"), new Day("Wednesday"),
+        Lesson engLesson = new Lesson(Subject.of("English"), Day.of("Wednesday"),
                 new Time("10:00"), new Time("11:00"));
         Person student = new PersonBuilder().withName("Alex").build();
-        student.setLessons(List.of(engLesson));
+        student = student.withLessons(List.of(engLesson));
 
         SubjectMatchesPredicate predicate = new SubjectMatchesPredicate("Math");
         assertFalse(predicate.test(student));
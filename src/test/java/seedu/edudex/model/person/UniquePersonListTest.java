@@ -2,19 +2,27 @@ package seedu.edudex.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.edudex.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
 import static seedu.edudex.testutil.TypicalPersons.BOB;
+import static seedu.edudex.testutil.TypicalPersons.CARL;
+import static seedu.edudex.testutil.TypicalPersons.DANIEL;
+import static seedu.edudex.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.edudex.commons.util.PersistentList;
 import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.person.exceptions.PersonNotFoundException;
 import seedu.edudex.testutil.PersonBuilder;
@@ -47,6 +55,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_personRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +124,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +159,43 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterOtherChanges_changesPersonInPlace() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(ELLE);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(DANIEL);
+        assertEquals(List.of(ALICE, editedCarl, ELLE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void restore_snapshot_sharesSnapshotAndRebuildsIndexes() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        PersistentList<Person> snapshot = uniquePersonList.snapshot();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+
+        uniquePersonList.restore(snapshot);
+        assertSame(snapshot, uniquePersonList.snapshot());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersonsWithNameWordStartingWith(List.of("ali")));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,12 +225,57 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllDuplicates() {
+        Person upperCaseBob = new PersonBuilder(BOB).withName(BOB.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, upperCaseBob);
+        String expectedMessage = "Operation would result in duplicate persons: Alice Pauline, BOB CHOO";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void findPersonsWithNameWordStartingWith_multipleMatches_inListOrder() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        uniquePersonList.setPerson(ALICE, DANIEL);
+
+        assertEquals(List.of(DANIEL, BENSON, CARL), new ArrayList<>(uniquePersonList
+                .findPersonsWithNameWordStartingWith(List.of("Kurz", "Meier"))));
+    }
+
+    @Test
+    public void findPersonsWithNameWordStartingWith_afterEditsAndRemovals_returnsCurrentMatches() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersonsWithNameWordStartingWith(List.of("ali")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Set.of(renamedAlice), uniquePersonList.findPersonsWithNameWordStartingWith(List.of("ali")));
+        assertTrue(uniquePersonList.findPersonsWithNameWordStartingWith(List.of("Pauline")).isEmpty());
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.findPersonsWithNameWordStartingWith(List.of("Bob")).isEmpty());
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(Set.of(BOB), uniquePersonList.findPersonsWithNameWordStartingWith(List.of("Choo", "Alicia")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
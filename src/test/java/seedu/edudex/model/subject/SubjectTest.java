@@ -1,6 +1,12 @@
 package seedu.edudex.model.subject;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -10,11 +16,63 @@ import seedu.edudex.model.ModelManager;
 
 public class SubjectTest {
 
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Subject.of(null));
+    }
+
+    @Test
+    public void of_invalidSubjectName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Subject.of(""));
+        assertThrows(IllegalArgumentException.class, () -> Subject.of(" Math"));
+        assertThrows(IllegalArgumentException.class, () -> Subject.of("Math!"));
+    }
+
+    @Test
+    public void of_sameNameInAnyCase_returnsSharedInstance() {
+        Subject subject = Subject.of("Geography");
+        assertSame(subject, Subject.of("geography"));
+        assertSame(subject, Subject.of("GEOGRAPHY"));
+        assertSame(subject, subject.getCopyOfSubject());
+        assertEquals("geography", subject.getSubjectAsString());
+        assertEquals("Geography", subject.toString());
+    }
+
+    @Test
+    public void of_nameWithLocaleSensitiveCase_lowerCasedInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // in Turkish, "I" lower-cases to a dotless i
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals("ict", Subject.of("ICT").getSubjectAsString());
+            assertSame(Subject.of("ict"), Subject.of("ICT"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void hashCode_sameName_sameHashCode() {
+        assertEquals(Subject.of("History").hashCode(), Subject.of("history").hashCode());
+        assertEquals("history".hashCode(), Subject.of("History").hashCode());
+    }
+
+    @Test
+    public void equals() {
+        Subject subject = Subject.of("Math");
+        assertTrue(subject.equals(Subject.of("MATH")));
+        assertTrue(subject.isSameSubject(Subject.of("math")));
+        assertFalse(subject.equals(null));
+        assertFalse(subject.isSameSubject(null));
+        assertFalse(subject.equals("math"));
+        assertFalse(subject.equals(Subject.of("Science")));
+    }
+
     // Ensures that validateExistsIn throws CommandException when the subject is not present in the model.
     @Test
     public void existsIn_subjectNotInModel_throwsCommandException() {
         Model model = new ModelManager(); // empty model
-        Subject subject = new Subject("Art");
+        Subject subject = Subject.of("Art");
 
         assertThrows(CommandException.class, () -> subject.existsIn(model));
     }
@@ -22,7 +80,7 @@ public class SubjectTest {
     @Test
     public void existsIn_subjectInModel_doesNotThrow() throws CommandException {
         Model model = new ModelManager();
-        Subject subject = new Subject("Math");
+        Subject subject = Subject.of("Math");
         model.addSubject(subject);
 
         // Should not throw
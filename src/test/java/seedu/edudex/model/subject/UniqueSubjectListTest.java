@@ -39,7 +39,7 @@ public class UniqueSubjectListTest {
     @Test
     public void contains_subjectWithSameNameInList_returnsTrue() {
         uniqueSubjectList.add(SCIENCE);
-        Subject editedScience = new Subject("Science");
+        Subject editedScience = Subject.of("Science");
         assertTrue(uniqueSubjectList.contains(editedScience));
     }
 
@@ -147,6 +147,15 @@ public class UniqueSubjectListTest {
         assertThrows(DuplicateSubjectException.class, () -> uniqueSubjectList.setSubjects(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setSubjects_listWithDuplicateSubjects_reportsAllDuplicates() {
+        Subject upperCaseMath = Subject.of(MATH.getSubjectAsString().toUpperCase());
+        List<Subject> listWithDuplicateSubjects = Arrays.asList(MATH, SCIENCE, upperCaseMath, SCIENCE);
+        String expectedMessage = "Operation would result in duplicate subjects: Math, Science";
+        assertThrows(DuplicateSubjectException.class, expectedMessage, () ->
+                uniqueSubjectList.setSubjects(listWithDuplicateSubjects));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,128 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+import static seedu.edudex.testutil.TypicalSubjects.MATH;
+import static seedu.edudex.testutil.TypicalSubjects.SCIENCE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Name;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class BinaryEduDexCodecTest {
+
+    @Test
+    public void encodeAndDecode_typicalEduDex_success() throws Exception {
+        EduDex original = getTypicalEduDex();
+        original.addSubject(SCIENCE);
+        original.addSubject(MATH);
+
+        EduDex decoded = decode(encode(original));
+
+        assertEquals(original, decoded);
+        assertEquals(original.getSubjectList(), decoded.getSubjectList());
+    }
+
+    @Test
+    public void encodeAndDecode_lessonTimesNotWholeMinutes_timesKept() throws Exception {
+        EduDex original = new EduDex();
+        original.addPerson(new PersonBuilder().withLessons(List.of(
+                new LessonBuilder().withDay("Sunday").withStartTime("23:00:30").withEndTime("23:59:59.5").build(),
+                new LessonBuilder().withDay("Monday").withStartTime("00:00").withEndTime("00:01").build()))
+                .build());
+
+        EduDex decoded = decode(encode(original));
+
+        assertEquals(original, decoded);
+        assertEquals(original.getPersonList().get(0).getLessons(), decoded.getPersonList().get(0).getLessons());
+    }
+
+    @Test
+    public void encode_smallerThanJson() throws Exception {
+        EduDex original = getTypicalEduDex();
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonEduDexSnapshot.write(original, JsonAdaptedEduDexChange.NO_CHANGE_LOG, json, true);
+
+        assertTrue(encode(original).length < json.size());
+    }
+
+    @Test
+    public void decode_notBinaryEduDex_throwsIOException() {
+        byte[] json = "{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, BinaryEduDexCodec.MESSAGE_NOT_BINARY_EDUDEX, () -> decode(json));
+        assertThrows(IOException.class, BinaryEduDexCodec.MESSAGE_NOT_BINARY_EDUDEX, () -> decode(new byte[0]));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIOException() throws Exception {
+        byte[] data = encode(getTypicalEduDex());
+        ByteBuffer.wrap(data).putInt(Integer.BYTES, BinaryEduDexCodec.FORMAT_VERSION + 1);
+
+        String expectedMessage = String.format(BinaryEduDexCodec.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryEduDexCodec.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, expectedMessage, () -> decode(data));
+    }
+
+    @Test
+    public void decode_truncatedData_throwsIOException() throws Exception {
+        byte[] data = encode(getTypicalEduDex());
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+        assertThrows(IOException.class, BinaryEduDexCodec.MESSAGE_CORRUPTED, () -> decode(truncated));
+    }
+
+    @Test
+    public void decode_trailingData_throwsIOException() throws Exception {
+        byte[] data = encode(getTypicalEduDex());
+        byte[] extended = Arrays.copyOf(data, data.length + 1);
+
+        assertThrows(IOException.class, BinaryEduDexCodec.MESSAGE_CORRUPTED, () -> decode(extended));
+    }
+
+    @Test
+    public void decode_duplicatePersons_throwsIllegalValueException() throws Exception {
+        EduDex original = new EduDex();
+        original.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        original.addPerson(new PersonBuilder().withName("Amy Bez").build());
+        byte[] data = encode(original);
+        data[new String(data, StandardCharsets.ISO_8859_1).indexOf("Amy Bez") + "Amy Be".length()] = 'e';
+
+        assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON, () ->
+                decode(data));
+    }
+
+    @Test
+    public void decode_invalidName_throwsIllegalValueException() throws Exception {
+        EduDex original = new EduDex();
+        original.addPerson(new PersonBuilder().withName("Amy").build());
+        byte[] data = encode(original);
+        int nameIndex = new String(data, StandardCharsets.ISO_8859_1).indexOf("Amy");
+        data[nameIndex] = '*';
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> decode(data));
+    }
+
+    private static byte[] encode(ReadOnlyEduDex eduDex) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEduDexCodec.encode(eduDex, out);
+        return out.toByteArray();
+    }
+
+    private static EduDex decode(byte[] data) throws IOException, IllegalValueException {
+        return BinaryEduDexCodec.decode(ByteBuffer.wrap(data));
+    }
+}
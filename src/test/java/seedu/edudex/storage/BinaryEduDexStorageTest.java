@@ -0,0 +1,130 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.model.EduDex;
+
+public class BinaryEduDexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFilePath_extensionReplaced() {
+        assertEquals(Paths.get("data", "edudex.bin"), BinaryEduDexStorage.getBinaryFilePath(Paths.get("data",
+                "edudex.json")));
+        assertEquals(Paths.get("edudex.bin"), BinaryEduDexStorage.getBinaryFilePath(Paths.get("edudex")));
+    }
+
+    @Test
+    public void readEduDex_missingFiles_emptyResult() throws Exception {
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(testFolder.resolve("edudex.bin"),
+                testFolder.resolve("edudex.json"));
+        assertFalse(storage.readEduDex().isPresent());
+    }
+
+    @Test
+    public void readEduDex_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        FileUtil.writeToFile(filePath, "{ \"persons\": [] }");
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath, testFolder.resolve("edudex.json"));
+
+        assertThrows(DataLoadingException.class, storage::readEduDex);
+    }
+
+    @Test
+    public void readAndSaveEduDex_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath, testFolder.resolve("edudex.json"));
+        EduDex original = getTypicalEduDex();
+
+        storage.saveEduDex(original);
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveEduDex(original);
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+        assertTrue(Files.exists(FileUtil.getBackupFilePath(filePath, 1)));
+    }
+
+    @Test
+    public void readEduDex_onlyJsonFile_jsonImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("edudex.json");
+        Path filePath = testFolder.resolve("edudex.bin");
+        EduDex original = getTypicalEduDex();
+        new JsonEduDexStorage(jsonFilePath).saveEduDex(original);
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath, jsonFilePath);
+
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+
+        // once saved, the binary file is read instead of the json file
+        original.addPerson(HOON);
+        storage.saveEduDex(original);
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+    }
+
+    @Test
+    public void exportToJson_savedData_readableAsJson() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        Path exportPath = testFolder.resolve("export.json");
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath, testFolder.resolve("edudex.json"));
+        EduDex original = getTypicalEduDex();
+        storage.saveEduDex(original);
+
+        storage.exportToJson(exportPath);
+
+        assertEquals(original, new EduDex(new JsonEduDexStorage(exportPath).readEduDex().get()));
+    }
+
+    @Test
+    public void exportToJson_noData_throwsDataLoadingException() {
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(testFolder.resolve("edudex.bin"),
+                testFolder.resolve("edudex.json"));
+        assertThrows(DataLoadingException.class, () -> storage.exportToJson(testFolder.resolve("export.json")));
+    }
+
+    @Test
+    public void migrateToJson_binaryData_jsonUpdatedAndImportedAgain() throws Exception {
+        Path jsonFilePath = testFolder.resolve("edudex.json");
+        Path filePath = testFolder.resolve("edudex.bin");
+        EduDex original = getTypicalEduDex();
+        new JsonEduDexStorage(jsonFilePath).saveEduDex(original);
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath, jsonFilePath);
+        original.addPerson(HOON);
+        storage.saveEduDex(original);
+
+        storage.migrateToJson();
+
+        assertEquals(original, new EduDex(new JsonEduDexStorage(jsonFilePath).readEduDex().get()));
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(FileUtil.getBackupFilePath(filePath, 1)));
+
+        // json data changed later -> imported again by the binary storage
+        original.removePerson(ALICE);
+        new JsonEduDexStorage(jsonFilePath).saveEduDex(original);
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+    }
+
+    @Test
+    public void saveEduDex_nullEduDex_throwsNullPointerException() {
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(testFolder.resolve("edudex.bin"),
+                testFolder.resolve("edudex.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveEduDex(null));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edudex.storage.JsonAdaptedEduDexChange.MESSAGE_INVALID_LIST;
+import static seedu.edudex.storage.JsonAdaptedEduDexChange.MESSAGE_OUT_OF_RANGE;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.CARL;
+import static seedu.edudex.testutil.TypicalSubjects.MATH;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+public class JsonAdaptedEduDexChangeTest {
+
+    private static final long CHANGE_LOG_ID = 1;
+
+    private final List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON));
+    private final List<Subject> subjects = new ArrayList<>();
+
+    @Test
+    public void applyTo_personsReplaced_personsSpliced() throws Exception {
+        JsonAdaptedEduDexChange.ofPersons(CHANGE_LOG_ID, 1, 1, List.of(CARL)).applyTo(persons, subjects);
+        assertEquals(List.of(ALICE, CARL), persons);
+
+        JsonAdaptedEduDexChange.ofPersons(CHANGE_LOG_ID, 0, 1, List.of()).applyTo(persons, subjects);
+        assertEquals(List.of(CARL), persons);
+    }
+
+    @Test
+    public void applyTo_subjectAdded_onlySubjectsChanged() throws Exception {
+        JsonAdaptedEduDexChange.ofSubjects(CHANGE_LOG_ID, 0, 0, List.of(MATH)).applyTo(persons, subjects);
+        assertEquals(List.of(MATH), subjects);
+        assertEquals(List.of(ALICE, BENSON), persons);
+    }
+
+    @Test
+    public void applyTo_rangeOutsideList_throwsIllegalValueException() {
+        JsonAdaptedEduDexChange change = JsonAdaptedEduDexChange.ofPersons(CHANGE_LOG_ID, 1, 2, List.of());
+        assertThrows(IllegalValueException.class, MESSAGE_OUT_OF_RANGE, () -> change.applyTo(persons, subjects));
+    }
+
+    @Test
+    public void applyTo_unknownList_throwsIllegalValueException() {
+        JsonAdaptedEduDexChange change = new JsonAdaptedEduDexChange(CHANGE_LOG_ID, "tags", 0, 0, null, null);
+        String expectedMessage = String.format(MESSAGE_INVALID_LIST, "tags");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> change.applyTo(persons, subjects));
+    }
+}
@@ -24,8 +24,8 @@ public class JsonAdaptedLessonTest {
     private static final String VALID_ENDTIME = "11:00";
 
     // A valid lesson object to be used in tests
-    private static final Lesson VALID_LESSON = new Lesson(new Subject(VALID_SUBJECT),
-            new Day(VALID_DAY),
+    private static final Lesson VALID_LESSON = new Lesson(Subject.of(VALID_SUBJECT),
+            Day.of(VALID_DAY),
             new Time(VALID_STARTTIME),
             new Time(VALID_ENDTIME)
     );
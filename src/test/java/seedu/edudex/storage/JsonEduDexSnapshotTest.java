@@ -0,0 +1,141 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+import static seedu.edudex.testutil.TypicalSubjects.MATH;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+public class JsonEduDexSnapshotTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableEduDexTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsEduDex.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonEduDex.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonEduDex.json");
+
+    private static final long CHANGE_LOG_ID = 42;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            JsonEduDexSnapshot snapshot = JsonEduDexSnapshot.read(in);
+            assertEquals(getTypicalEduDex(), snapshot.toModelType());
+            assertEquals(JsonAdaptedEduDexChange.NO_CHANGE_LOG, snapshot.getChangeLogId());
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readFile(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        JsonEduDexSnapshot snapshot = readFile(DUPLICATE_PERSON_FILE);
+        assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON,
+                snapshot::toModelType);
+    }
+
+    @Test
+    public void read_notAnObject_throwsIOException() {
+        assertThrows(IOException.class, () -> read("[]"));
+    }
+
+    @Test
+    public void read_personsNotAnArray_throwsIOException() {
+        assertThrows(IOException.class, () -> read("{\"persons\": {}}"));
+    }
+
+    @Test
+    public void read_nullPerson_throwsIOException() {
+        assertThrows(IOException.class, () -> read("{\"persons\": [null]}"));
+    }
+
+    @Test
+    public void read_unknownAndNullFields_ignored() throws Exception {
+        JsonEduDexSnapshot snapshot = read("{\"tags\": [{\"name\": \"x\"}], \"persons\": null, \"subjects\": []}");
+        assertEquals(new EduDex(), snapshot.toModelType());
+    }
+
+    @Test
+    public void writeAndRead_roundTrip_success() throws Exception {
+        EduDex original = getTypicalEduDex();
+        original.addSubject(MATH);
+
+        JsonEduDexSnapshot snapshot = read(write(original, false));
+
+        assertEquals(CHANGE_LOG_ID, snapshot.getChangeLogId());
+        EduDex readBack = snapshot.toModelType();
+        assertEquals(original, readBack);
+        assertEquals(original.getSubjectList(), readBack.getSubjectList());
+    }
+
+    @Test
+    public void write_compact_singleLine() throws Exception {
+        EduDex original = getTypicalEduDex();
+
+        String compact = write(original, true);
+        String indented = write(original, false);
+
+        assertFalse(compact.contains("\n"));
+        assertTrue(compact.length() < indented.length());
+        assertEquals(original, read(compact).toModelType());
+    }
+
+    @Test
+    public void write_readableAsJsonSerializableEduDex() throws Exception {
+        EduDex original = getTypicalEduDex();
+
+        JsonSerializableEduDex jsonEduDex = JsonUtil.fromJsonString(write(original, true),
+                JsonSerializableEduDex.class);
+
+        assertEquals(original, jsonEduDex.toModelType());
+        assertEquals(CHANGE_LOG_ID, jsonEduDex.getChangeLogId());
+    }
+
+    @Test
+    public void applyChange_personAdded_personInModel() throws Exception {
+        JsonEduDexSnapshot snapshot = read(write(new EduDex(), false));
+
+        snapshot.applyChange(JsonAdaptedEduDexChange.ofPersons(CHANGE_LOG_ID, 0, 0, List.of(HOON)));
+
+        EduDex expected = new EduDex();
+        expected.addPerson(HOON);
+        assertEquals(expected, snapshot.toModelType());
+    }
+
+    private static JsonEduDexSnapshot readFile(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            return JsonEduDexSnapshot.read(in);
+        }
+    }
+
+    private static JsonEduDexSnapshot read(String json) throws Exception {
+        return JsonEduDexSnapshot.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String write(ReadOnlyEduDex eduDex, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonEduDexSnapshot.write(eduDex, CHANGE_LOG_ID, out, isCompact);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -7,15 +7,20 @@ import static seedu.edudex.testutil.TypicalPersons.ALICE;
 import static seedu.edudex.testutil.TypicalPersons.HOON;
 import static seedu.edudex.testutil.TypicalPersons.IDA;
 import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+import static seedu.edudex.testutil.TypicalSubjects.MATH;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.commons.util.JsonUtil;
 import seedu.edudex.model.EduDex;
 import seedu.edudex.model.ReadOnlyEduDex;
 
@@ -86,6 +91,144 @@ public class JsonEduDexStorageTest {
 
     }
 
+    @Test
+    public void saveEduDex_unchangedSinceLastSave_noChangeLogWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+
+        jsonEduDexStorage.saveEduDex(original);
+        jsonEduDexStorage.saveEduDex(original);
+
+        assertFalse(Files.exists(JsonEduDexStorage.getChangeLogFilePath(filePath)));
+    }
+
+    @Test
+    public void saveEduDex_changesSinceLastSave_appendedToChangeLog() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addSubject(MATH);
+        jsonEduDexStorage.saveEduDex(original);
+
+        // only the change log is written, and a new storage reads the changes back
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(JsonEduDexStorage.getChangeLogFilePath(filePath)).size());
+        ReadOnlyEduDex readBack = new JsonEduDexStorage(filePath).readEduDex().get();
+        assertEquals(original, new EduDex(readBack));
+        assertEquals(original.getSubjectList(), readBack.getSubjectList());
+    }
+
+    @Test
+    public void saveEduDex_changeLogPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        Path changeLogPath = JsonEduDexStorage.getChangeLogFilePath(filePath);
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+
+        for (int i = 0; i < JsonEduDexStorage.COMPACTION_THRESHOLD; i++) {
+            if (original.hasPerson(HOON)) {
+                original.removePerson(HOON);
+            } else {
+                original.addPerson(HOON);
+            }
+            jsonEduDexStorage.saveEduDex(original);
+        }
+        assertEquals(JsonEduDexStorage.COMPACTION_THRESHOLD, Files.readAllLines(changeLogPath).size());
+
+        original.addPerson(IDA);
+        jsonEduDexStorage.saveEduDex(original);
+        assertFalse(Files.exists(changeLogPath));
+        assertEquals(original, new EduDex(jsonEduDexStorage.readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_incompleteLastChangeLogRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+        original.addPerson(HOON);
+        jsonEduDexStorage.saveEduDex(original);
+
+        FileUtil.appendToFile(JsonEduDexStorage.getChangeLogFilePath(filePath), "{\"list\":\"persons\",\"fr");
+
+        assertEquals(original, new EduDex(jsonEduDexStorage.readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_changeLogNotMatchingSnapshot_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        jsonEduDexStorage.saveEduDex(new EduDex());
+        long changeLogId = JsonUtil.readJsonFile(filePath, JsonSerializableEduDex.class).get().getChangeLogId();
+
+        FileUtil.appendToFile(JsonEduDexStorage.getChangeLogFilePath(filePath),
+                JsonUtil.toCompactJsonString(JsonAdaptedEduDexChange.ofPersons(changeLogId, 3, 1, List.of())) + "\n");
+
+        assertThrows(DataLoadingException.class, () -> jsonEduDexStorage.readEduDex());
+    }
+
+    @Test
+    public void readEduDex_changeLogOfPreviousSnapshot_changeLogIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        Path changeLogPath = JsonEduDexStorage.getChangeLogFilePath(filePath);
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+        original.addPerson(HOON);
+        jsonEduDexStorage.saveEduDex(original);
+        String staleChangeLog = FileUtil.readFromFile(changeLogPath);
+
+        // a crash right after a new snapshot is written leaves the old change log behind
+        EduDex expected = getTypicalEduDex();
+        new JsonEduDexStorage(filePath).saveEduDex(expected);
+        FileUtil.writeToFile(changeLogPath, staleChangeLog);
+
+        assertEquals(expected, new EduDex(jsonEduDexStorage.readEduDex().get()));
+    }
+
+    @Test
+    public void saveEduDex_snapshots_previousSnapshotsBackedUp() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        EduDex eduDex = getTypicalEduDex();
+
+        new JsonEduDexStorage(filePath, 2, false).saveEduDex(new EduDex());
+        new JsonEduDexStorage(filePath, 2, false).saveEduDex(eduDex);
+        eduDex.addPerson(HOON);
+        new JsonEduDexStorage(filePath, 2, false).saveEduDex(eduDex);
+        eduDex.addPerson(IDA);
+        new JsonEduDexStorage(filePath, 2, false).saveEduDex(eduDex);
+
+        assertEquals(eduDex, new EduDex(new JsonEduDexStorage(filePath).readEduDex().get()));
+        EduDex expectedLatestBackup = getTypicalEduDex();
+        expectedLatestBackup.addPerson(HOON);
+        assertEquals(expectedLatestBackup, readBackup(filePath, 1));
+        assertEquals(getTypicalEduDex(), readBackup(filePath, 2));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 3)));
+    }
+
+    private EduDex readBackup(Path filePath, int generation) throws Exception {
+        return new EduDex(new JsonEduDexStorage(FileUtil.getBackupFilePath(filePath, generation)).readEduDex().get());
+    }
+
+    @Test
+    public void saveEduDex_compactOutput_snapshotOnSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        EduDex original = getTypicalEduDex();
+
+        new JsonEduDexStorage(filePath, JsonEduDexStorage.DEFAULT_BACKUP_COUNT, true).saveEduDex(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new EduDex(new JsonEduDexStorage(filePath).readEduDex().get()));
+    }
+
     @Test
     public void saveEduDex_nullEduDex_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveEduDex(null, "SomeFile.json"));
@@ -2,15 +2,18 @@ package seedu.edudex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.edudex.commons.exceptions.IllegalValueException;
 import seedu.edudex.commons.util.JsonUtil;
 import seedu.edudex.model.EduDex;
+import seedu.edudex.model.person.Name;
 import seedu.edudex.testutil.TypicalPersons;
 
 public class JsonSerializableEduDexTest {
@@ -19,6 +22,8 @@ public class JsonSerializableEduDexTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsEduDex.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonEduDex.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonEduDex.json");
+    private static final JsonAdaptedPerson INVALID_PERSON = new JsonAdaptedPerson("R@chel", ALICE.getPhone().value,
+            ALICE.getSchool().value, ALICE.getAddress().value, null, null);
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -43,4 +48,19 @@ public class JsonSerializableEduDexTest {
         assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_duplicateReported() throws Exception {
+        JsonSerializableEduDex eduDex = new JsonSerializableEduDex(List.of(new JsonAdaptedPerson(ALICE),
+                new JsonAdaptedPerson(ALICE), INVALID_PERSON), List.of(), JsonAdaptedEduDexChange.NO_CHANGE_LOG);
+        assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON,
+                eduDex::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidBeforeDuplicatePerson_invalidPersonReported() throws Exception {
+        JsonSerializableEduDex eduDex = new JsonSerializableEduDex(List.of(new JsonAdaptedPerson(ALICE),
+                INVALID_PERSON, new JsonAdaptedPerson(ALICE)), List.of(), JsonAdaptedEduDexChange.NO_CHANGE_LOG);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, eduDex::toModelType);
+    }
 }
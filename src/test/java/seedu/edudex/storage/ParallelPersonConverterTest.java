@@ -0,0 +1,87 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.person.Name;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.Phone;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.CHUNK_SIZE * 3 + 1;
+
+    @Test
+    public void finish_validPersons_convertedInOrder() throws Exception {
+        List<Person> expectedPersons = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            expectedPersons.add(person);
+            converter.add(new JsonAdaptedPerson(person));
+        }
+
+        ParallelPersonConverter.Result result = converter.finish();
+
+        result.throwFailureIfAny();
+        assertEquals(expectedPersons, result.getPersons());
+    }
+
+    @Test
+    public void finish_noPersons_emptyResult() throws Exception {
+        ParallelPersonConverter.Result result = new ParallelPersonConverter().finish();
+
+        result.throwFailureIfAny();
+        assertTrue(result.getPersons().isEmpty());
+    }
+
+    @Test
+    public void finish_invalidPersonsInSeveralChunks_earliestFailureReported() {
+        List<JsonAdaptedPerson> persons = generateJsonAdaptedPersons();
+        int firstFailureIndex = ParallelPersonConverter.CHUNK_SIZE + 5;
+        persons.set(firstFailureIndex, createPerson("Invalid Phone", "+65"));
+        persons.set(firstFailureIndex + 1, createPerson("R@chel", PersonBuilder.DEFAULT_PHONE));
+        persons.set(PERSON_COUNT - 1, createPerson("R@chel", PersonBuilder.DEFAULT_PHONE));
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.addAll(persons);
+
+        ParallelPersonConverter.Result result = converter.finish();
+
+        assertEquals(firstFailureIndex, result.getPersons().size());
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, result::throwFailureIfAny);
+    }
+
+    @Test
+    public void finish_invalidPersonInFirstChunk_nothingAfterItConverted() {
+        List<JsonAdaptedPerson> persons = generateJsonAdaptedPersons();
+        persons.set(0, createPerson("R@chel", PersonBuilder.DEFAULT_PHONE));
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.addAll(persons);
+
+        ParallelPersonConverter.Result result = converter.finish();
+
+        assertTrue(result.getPersons().isEmpty());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, result::throwFailureIfAny);
+    }
+
+    private static List<JsonAdaptedPerson> generateJsonAdaptedPersons() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson createPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, PersonBuilder.DEFAULT_SCHOOL, PersonBuilder.DEFAULT_ADDRESS,
+                null, null);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+import static seedu.edudex.testutil.TypicalSubjects.MATH;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveEduDex_changesThenFlush_latestDataWritten() throws Exception {
+        Path filePath = testFolder.resolve("eduDex.json");
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonEduDexStorage(filePath), new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        EduDex original = getTypicalEduDex();
+
+        storage.saveEduDex(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, IDA);
+        original.addSubject(MATH);
+        storage.saveEduDex(original);
+        storage.flush();
+
+        ReadOnlyEduDex readBack = new JsonEduDexStorage(filePath).readEduDex().get();
+        assertEquals(original, new EduDex(readBack));
+        assertEquals(original.getSubjectList(), readBack.getSubjectList());
+    }
+
+    @Test
+    public void saveEduDex_writeInProgress_laterSavesCoalesced() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        StorageManager blockingStorage = new StorageManager(new JsonEduDexStorage(testFolder.resolve("eduDex.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    awaitUninterruptibly(firstWriteReleased);
+                }
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        EduDex eduDex = new EduDex();
+
+        storage.saveEduDex(eduDex);
+        awaitUninterruptibly(firstWriteStarted);
+        eduDex.addPerson(ALICE);
+        storage.saveEduDex(eduDex);
+        eduDex.addPerson(BENSON);
+        storage.saveEduDex(eduDex);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(2, writeCount.get());
+    }
+
+    @Test
+    public void saveEduDex_writeFailed_failureReportedAndRetried() throws Exception {
+        IOException dummyException = new IOException("dummy IO exception");
+        boolean[] isFailing = {true};
+        Path filePath = testFolder.resolve("eduDex.json");
+        StorageManager failingStorage = new StorageManager(new JsonEduDexStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw dummyException;
+                }
+                super.saveEduDex(eduDex, filePath);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage);
+        EduDex original = getTypicalEduDex();
+
+        storage.saveEduDex(original);
+        assertThrows(IOException.class, dummyException.getMessage(), storage::flush);
+        assertEquals(Optional.of(dummyException), storage.getSaveFailure());
+
+        // later saves are still scheduled, and the failure is kept until a write succeeds
+        storage.saveEduDex(original);
+        assertEquals(Optional.of(dummyException), storage.getSaveFailure());
+
+        isFailing[0] = false;
+        storage.flush();
+        assertEquals(Optional.empty(), storage.getSaveFailure());
+        assertEquals(original, new EduDex(new JsonEduDexStorage(filePath).readEduDex().get()));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("Timed out waiting for the writer thread.");
+            }
+        } catch (InterruptedException ie) {
+            throw new AssertionError(ie);
+        }
+    }
+}
@@ -24,8 +24,8 @@ public class LessonBuilder {
      * Creates a {@code LessonBuilder} with the default attributes.
      */
     public LessonBuilder() {
-        subject = new Subject(DEFAULT_SUBJECT);
-        day = new Day(DEFAULT_DAY);
+        subject = Subject.of(DEFAULT_SUBJECT);
+        day = Day.of(DEFAULT_DAY);
         startTime = new Time(DEFAULT_STARTTIME);
         endTime = new Time(DEFAULT_ENDTIME);
     }
@@ -44,7 +44,7 @@ public class LessonBuilder {
      * Sets the {@code Subject} of the {@code Lesson} that we are building.
      */
     public LessonBuilder withSubject(String subject) {
-        this.subject = new Subject(subject);
+        this.subject = Subject.of(subject);
         return this;
     }
 
@@ -52,7 +52,7 @@ public class LessonBuilder {
      * Sets the {@code Day} of the {@code Lesson} that we are building.
      */
     public LessonBuilder withDay(String day) {
-        this.day = new Day(day);
+        this.day = Day.of(day);
         return this;
     }
 
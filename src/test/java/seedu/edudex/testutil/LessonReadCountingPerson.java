@@ -0,0 +1,33 @@
+package seedu.edudex.testutil;
+
+import java.util.List;
+
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Person;
+
+/**
+ * A {@code Person} that counts how many times its lessons are read, to check that a search does not test them.
+ */
+public class LessonReadCountingPerson extends Person {
+
+    private int lessonReads;
+
+    public LessonReadCountingPerson(Person person) {
+        super(person.getName(), person.getPhone(), person.getSchool(), person.getAddress(), person.getTags(),
+                person.getLessons());
+    }
+
+    @Override
+    public List<Lesson> getLessons() {
+        lessonReads++;
+        return super.getLessons();
+    }
+
+    public int getLessonReads() {
+        return lessonReads;
+    }
+
+    public void resetLessonReads() {
+        lessonReads = 0;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.edudex.testutil;
+
+import seedu.edudex.model.person.Name;
+import seedu.edudex.model.person.Person;
+
+/**
+ * A {@code Person} that counts how many times its name is read, to check that a search does not test it.
+ */
+public class NameReadCountingPerson extends Person {
+
+    private int nameReads;
+
+    public NameReadCountingPerson(Person person) {
+        super(person.getName(), person.getPhone(), person.getSchool(), person.getAddress(), person.getTags(),
+                person.getLessons());
+    }
+
+    @Override
+    public Name getName() {
+        nameReads++;
+        return super.getName();
+    }
+
+    public int getNameReads() {
+        return nameReads;
+    }
+
+    public void resetNameReads() {
+        nameReads = 0;
+    }
+}
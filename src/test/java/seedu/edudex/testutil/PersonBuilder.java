@@ -107,9 +107,7 @@ public class PersonBuilder {
      * Builds the Person object.
      */
     public Person build() {
-        Person student = new Person(name, phone, school, address, tags);
-        student.setLessons(lessons);
-        return student;
+        return new Person(name, phone, school, address, tags, lessons);
     }
 
 }
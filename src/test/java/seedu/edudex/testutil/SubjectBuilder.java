@@ -37,7 +37,7 @@ public class SubjectBuilder {
      * Builds the Subject object.
      */
     public Subject build() {
-        Subject subject = new Subject(name);
+        Subject subject = Subject.of(name);
         return subject;
     }
 
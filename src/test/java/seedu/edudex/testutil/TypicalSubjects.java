@@ -11,8 +11,8 @@ import seedu.edudex.model.subject.Subject;
  * A utility class containing a list of {@code Subject} objects to be used in tests.
  */
 public class TypicalSubjects {
-    public static final Subject SCIENCE = new Subject("Science");
-    public static final Subject MATH = new Subject("Math");
+    public static final Subject SCIENCE = Subject.of("Science");
+    public static final Subject MATH = Subject.of("Math");
 
     private TypicalSubjects() {} // prevents instantiation
 